@@ -0,0 +1,116 @@
+package com.datastax.driver.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+// Lives in the driver package to reach the package private constructors of
+// the driver metadata and row classes, so benchmarks run without a cluster
+public final class SyntheticResults {
+
+    private static final ProtocolVersion PROTOCOL_VERSION = ProtocolVersion.V3;
+
+    private final ColumnDefinitions definitions;
+    private final List<Row> rows;
+
+    private SyntheticResults(ColumnDefinitions definitions, List<Row> rows) {
+        this.definitions = definitions;
+        this.rows = rows;
+    }
+
+    public static SyntheticResults create(List<String> names, List<DataType> types, List<List<Object>> values) {
+        ColumnDefinitions.Definition[] defs = new ColumnDefinitions.Definition[names.size()];
+        for (int i = 0; i < defs.length; i++) {
+            defs[i] = new ColumnDefinitions.Definition("benchmarks", "synthetic", names.get(i), types.get(i));
+        }
+        ColumnDefinitions definitions = new ColumnDefinitions(defs);
+
+        List<Row> rows = new ArrayList<>(values.size());
+        for (List<Object> row : values) {
+            List<ByteBuffer> data = new ArrayList<>(row.size());
+            for (int i = 0; i < row.size(); i++) {
+                data.add(row.get(i) == null ? null : types.get(i).serialize(row.get(i), PROTOCOL_VERSION));
+            }
+            rows.add(ArrayBackedRow.fromData(definitions, null, PROTOCOL_VERSION, data));
+        }
+        return new SyntheticResults(definitions, rows);
+    }
+
+    // A fresh, single page result set over the same decoded rows
+    public ResultSet resultSet() {
+        return new SyntheticResultSet(definitions, rows);
+    }
+
+    private static final class SyntheticResultSet implements ResultSet {
+
+        private final ColumnDefinitions definitions;
+        private final List<Row> rows;
+        private final ExecutionInfo executionInfo = new ExecutionInfo(Collections.<Host> emptyList());
+        private int next;
+
+        private SyntheticResultSet(ColumnDefinitions definitions, List<Row> rows) {
+            this.definitions = definitions;
+            this.rows = rows;
+        }
+
+        public ColumnDefinitions getColumnDefinitions() {
+            return definitions;
+        }
+
+        public boolean isExhausted() {
+            return next >= rows.size();
+        }
+
+        public Row one() {
+            return this.isExhausted() ? null : rows.get(next++);
+        }
+
+        public List<Row> all() {
+            List<Row> result = new ArrayList<>(rows.subList(next, rows.size()));
+            next = rows.size();
+            return result;
+        }
+
+        public java.util.Iterator<Row> iterator() {
+            return new java.util.Iterator<Row>() {
+
+                public boolean hasNext() {
+                    return !SyntheticResultSet.this.isExhausted();
+                }
+
+                public Row next() {
+                    return SyntheticResultSet.this.one();
+                }
+            };
+        }
+
+        public int getAvailableWithoutFetching() {
+            return rows.size() - next;
+        }
+
+        public boolean isFullyFetched() {
+            return true;
+        }
+
+        public ListenableFuture<ResultSet> fetchMoreResults() {
+            return Futures.<ResultSet> immediateFuture(this);
+        }
+
+        public ExecutionInfo getExecutionInfo() {
+            return executionInfo;
+        }
+
+        public List<ExecutionInfo> getAllExecutionInfo() {
+            return Collections.singletonList(executionInfo);
+        }
+
+        public boolean wasApplied() {
+            return true;
+        }
+    }
+
+}
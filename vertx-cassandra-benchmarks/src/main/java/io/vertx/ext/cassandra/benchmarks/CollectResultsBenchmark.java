@@ -0,0 +1,81 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.SyntheticResults;
+
+import io.vertx.ext.cassandra.ResultMode;
+import io.vertx.ext.cassandra.ResultSet;
+import io.vertx.ext.cassandra.impl.QueryResultsCollector;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CollectResultsBenchmark {
+
+    private static final List<String> NAMES = Arrays.asList("id", "counter", "amount", "flag", "created", "name",
+            "price");
+    private static final List<DataType> TYPES = Arrays.asList(DataType.uuid(), DataType.bigint(), DataType.cdouble(),
+            DataType.cboolean(), DataType.timestamp(), DataType.text(), DataType.decimal());
+
+    @Param({ "100", "5000" })
+    private int rows;
+
+    @Param({ "ROWS", "COLUMNAR", "LAZY" })
+    private ResultMode mode;
+
+    private SyntheticResults results;
+    private QueryResultsCollector collector;
+
+    @Setup
+    public void setUp() {
+        List<List<Object>> values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            values.add(Arrays.asList(UUID.randomUUID(), (long) i, i / 3d, i % 2 == 0, new Date(i), "name-" + i,
+                    new BigDecimal(i).movePointLeft(2)));
+        }
+        results = SyntheticResults.create(NAMES, TYPES, values);
+        collector = new QueryResultsCollector();
+    }
+
+    @Benchmark
+    public ResultSet collect() {
+        return collector.collectResults(results.resultSet(), mode);
+    }
+
+    // Reads three of the seven columns of every row, the access pattern the
+    // lazy mode is meant for
+    @Benchmark
+    public void collectAndReadSome(Blackhole blackhole) {
+        ResultSet result = collector.collectResults(results.resultSet(), mode);
+        for (int i = 0; i < result.size(); i++) {
+            blackhole.consume(result.getLong(i, 1));
+            blackhole.consume(result.getDouble(i, 2));
+            blackhole.consume(result.getString(i, 5));
+        }
+    }
+
+}
@@ -0,0 +1,96 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.ext.cassandra.impl.util.DelegateFutureCallback;
+import io.vertx.ext.cassandra.impl.util.VertxExecutor;
+
+/**
+ * Per request cost of handing a completed driver future back to Vert.x. The
+ * benchmark thread plays the role of the driver I/O thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DispatchBenchmark {
+
+    private static final Object RESULT = new Object();
+
+    private Vertx vertx;
+    private Executor perCallContext;
+    private Executor capturedContext;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        // vertx.runOnContext from a non Vert.x thread creates a new context
+        // each time, which is what happened before the caller's context was
+        // captured
+        perCallContext = command -> vertx.runOnContext(v -> command.run());
+
+        Context context = vertx.getOrCreateContext();
+        capturedContext = new VertxExecutor(context);
+    }
+
+    @TearDown
+    public void tearDown() {
+        vertx.close();
+    }
+
+    // The callback adaptation alone, without any thread hop
+    @Benchmark
+    public AsyncResult<Object> sameThread() throws InterruptedException {
+        return this.dispatch(MoreExecutors.sameThreadExecutor());
+    }
+
+    @Benchmark
+    public AsyncResult<Object> perCallContext() throws InterruptedException {
+        return this.dispatch(perCallContext);
+    }
+
+    @Benchmark
+    public AsyncResult<Object> capturedContext() throws InterruptedException {
+        return this.dispatch(capturedContext);
+    }
+
+    private AsyncResult<Object> dispatch(Executor executor) throws InterruptedException {
+        SettableFuture<Object> future = SettableFuture.create();
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<AsyncResult<Object>> result = new AtomicReference<>();
+
+        Futures.addCallback(future, new DelegateFutureCallback<Object>(ar -> {
+            result.set(ar);
+            latch.countDown();
+        }), executor);
+        future.set(RESULT);
+
+        latch.await();
+        return result.get();
+    }
+
+}
@@ -0,0 +1,50 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.RetryPolicy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ExecutionOptionsBenchmark {
+
+    private ExecutionOptions options;
+    private JsonObject json;
+
+    @Setup
+    public void setUp() {
+        options = new ExecutionOptions().setConsistencyLevel(ConsistencyLevel.LOCAL_QUORUM)
+                .setSerialConsistencyLevel(ConsistencyLevel.LOCAL_SERIAL).setFetchSize(500).setIdempotent(true)
+                .setRetryPolicy(RetryPolicy.DOWNGRADING).setTimestamp(System.currentTimeMillis());
+        json = options.toJson();
+    }
+
+    @Benchmark
+    public ExecutionOptions fromJson() {
+        return new ExecutionOptions(json);
+    }
+
+    @Benchmark
+    public JsonObject toJson() {
+        return options.toJson();
+    }
+
+}
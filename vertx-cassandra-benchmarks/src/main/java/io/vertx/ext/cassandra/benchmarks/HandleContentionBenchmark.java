@@ -0,0 +1,87 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastax.driver.core.Session;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraClient;
+import io.vertx.ext.cassandra.impl.CassandraHandle;
+
+/**
+ * Contention on the shared handle with as many threads as a large event loop
+ * pool: looking up the shared client, taking and releasing a reference on the
+ * handle, and the session read every request does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Threads(32)
+@Fork(1)
+public class HandleContentionBenchmark {
+
+    private static final String NAME = "contention";
+
+    private Vertx vertx;
+    private JsonObject config;
+    private CassandraClient keepAlive;
+    private CassandraHandle handle;
+
+    @Setup
+    public void setUp() {
+        vertx = Vertx.vertx();
+        config = new JsonObject();
+        // Keeps the shared handle alive so the benchmark measures lookups
+        // and reference counting, not handle creation
+        keepAlive = CassandraClient.createShared(vertx, config, NAME);
+
+        handle = new CassandraHandle(vertx, config, () -> {
+        });
+        handle.tryAddReference();
+    }
+
+    @TearDown
+    public void tearDown() {
+        handle.decreaseReference();
+        keepAlive.close();
+        vertx.close();
+    }
+
+    @Benchmark
+    public CassandraClient sharedClientLookup() {
+        CassandraClient client = CassandraClient.createShared(vertx, config, NAME);
+        client.close();
+        return client;
+    }
+
+    @Benchmark
+    public boolean handleReference() {
+        boolean added = handle.tryAddReference();
+        handle.decreaseReference();
+        return added;
+    }
+
+    // Never connected here, so this is the read requests do before falling
+    // back to the session future
+    @Benchmark
+    public Session connectedSession() {
+        return handle.connectedSession();
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.SyntheticResults;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.JsonFormat;
+import io.vertx.ext.cassandra.ResultSet;
+import io.vertx.ext.cassandra.impl.JsonRowWriter;
+import io.vertx.ext.cassandra.impl.QueryResultsCollector;
+
+/**
+ * Compares rebuilding a result as JsonObjects before encoding it with writing
+ * the driver rows straight into JSON bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private static final List<String> NAMES = Arrays.asList("id", "counter", "amount", "flag", "created", "name",
+            "price", "tags");
+    private static final List<DataType> TYPES = Arrays.asList(DataType.uuid(), DataType.bigint(), DataType.cdouble(),
+            DataType.cboolean(), DataType.timestamp(), DataType.text(), DataType.decimal(),
+            DataType.list(DataType.text()));
+
+    @Param({ "100", "5000" })
+    private int rows;
+
+    private SyntheticResults results;
+    private QueryResultsCollector collector;
+
+    @Setup
+    public void setUp() {
+        List<List<Object>> values = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            values.add(Arrays.asList(UUID.randomUUID(), (long) i, i / 3d, i % 2 == 0, new Date(i), "name-" + i,
+                    new BigDecimal(i).movePointLeft(2), Arrays.asList("a", "b" + i)));
+        }
+        results = SyntheticResults.create(NAMES, TYPES, values);
+        collector = new QueryResultsCollector();
+    }
+
+    // What endpoints do today: collect, convert every cell, then encode
+    @Benchmark
+    public Buffer viaJsonObjects() {
+        ResultSet result = collector.collectResults(results.resultSet());
+        JsonArray json = new JsonArray();
+        for (List<Object> row : result.getValues()) {
+            JsonObject object = new JsonObject();
+            for (int c = 0; c < NAMES.size(); c++) {
+                Object value = row.get(c);
+                if (value instanceof UUID || value instanceof BigDecimal) {
+                    value = value.toString();
+                } else if (value instanceof Date) {
+                    value = ((Date) value).toInstant().toString();
+                } else if (value instanceof List) {
+                    value = new JsonArray((List<?>) value);
+                }
+                object.put(NAMES.get(c), value);
+            }
+            json.add(object);
+        }
+        return Buffer.buffer(json.encode());
+    }
+
+    @Benchmark
+    public Buffer objects() {
+        com.datastax.driver.core.ResultSet rs = results.resultSet();
+        return new JsonRowWriter(rs.getColumnDefinitions(), JsonFormat.OBJECTS).write(rs);
+    }
+
+    @Benchmark
+    public Buffer arrays() {
+        com.datastax.driver.core.ResultSet rs = results.resultSet();
+        return new JsonRowWriter(rs.getColumnDefinitions(), JsonFormat.ARRAYS).write(rs);
+    }
+
+}
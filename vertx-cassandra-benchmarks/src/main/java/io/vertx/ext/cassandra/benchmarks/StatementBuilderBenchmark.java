@@ -0,0 +1,58 @@
+package io.vertx.ext.cassandra.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastax.driver.core.Statement;
+
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.RetryPolicy;
+import io.vertx.ext.cassandra.impl.StatementBuilder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StatementBuilderBenchmark {
+
+    private static final String STATEMENT = "insert into events (id, kind, payload, created) values (?, ?, ?, ?)";
+
+    private StatementBuilder builder;
+    private List<Object> parameters;
+    private ExecutionOptions options;
+
+    @Setup
+    public void setUp() {
+        builder = new StatementBuilder();
+        parameters = Arrays.asList(UUID.randomUUID(), "click", "{\"x\":1}", System.currentTimeMillis());
+        options = new ExecutionOptions().setConsistencyLevel(ConsistencyLevel.LOCAL_QUORUM).setFetchSize(500)
+                .setIdempotent(true).setRetryPolicy(RetryPolicy.DEFAULT).setTimestamp(System.currentTimeMillis());
+    }
+
+    @Benchmark
+    public Statement simple() {
+        return builder.simple(STATEMENT, parameters);
+    }
+
+    @Benchmark
+    public Statement simpleWithOptions() {
+        return builder.applyOptions(builder.simple(STATEMENT, parameters), options);
+    }
+
+}
@@ -0,0 +1,52 @@
+package io.vertx.ext.cassandra;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import io.vertx.codegen.annotations.Fluent;
+
+public class Batch {
+
+    private BatchType type;
+    private List<String> statements = new ArrayList<>();
+    private List<List<Object>> parameters = new ArrayList<>();
+
+    public Batch() {
+        this(BatchType.LOGGED);
+    }
+
+    public Batch(BatchType type) {
+        this.type = Objects.requireNonNull(type);
+    }
+
+    @Fluent
+    public Batch add(String statement) {
+        return this.add(statement, Collections.emptyList());
+    }
+
+    @Fluent
+    public Batch add(String statement, List<Object> parameters) {
+        this.statements.add(Objects.requireNonNull(statement));
+        this.parameters.add(Objects.requireNonNull(parameters));
+        return this;
+    }
+
+    public BatchType getType() {
+        return type;
+    }
+
+    public List<String> getStatements() {
+        return statements;
+    }
+
+    public List<List<Object>> getParameters() {
+        return parameters;
+    }
+
+    public int size() {
+        return statements.size();
+    }
+
+}
@@ -0,0 +1,76 @@
+package io.vertx.ext.cassandra;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class CacheStats {
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private int size;
+
+    public CacheStats() {
+    }
+
+    public CacheStats(CacheStats other) {
+        this.hits = other.hits;
+        this.misses = other.misses;
+        this.evictions = other.evictions;
+        this.size = other.size;
+    }
+
+    public CacheStats(JsonObject json) {
+        this.hits = json.getLong("hits", 0L);
+        this.misses = json.getLong("misses", 0L);
+        this.evictions = json.getLong("evictions", 0L);
+        this.size = json.getInteger("size", 0);
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        result.put("hits", this.hits);
+        result.put("misses", this.misses);
+        result.put("evictions", this.evictions);
+        result.put("size", this.size);
+        return result;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public CacheStats setHits(long hits) {
+        this.hits = hits;
+        return this;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public CacheStats setMisses(long misses) {
+        this.misses = misses;
+        return this;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public CacheStats setEvictions(long evictions) {
+        this.evictions = evictions;
+        return this;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public CacheStats setSize(int size) {
+        this.size = size;
+        return this;
+    }
+
+}
@@ -7,7 +7,9 @@ import io.vertx.codegen.annotations.Fluent;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.streams.ReadStream;
 import io.vertx.ext.cassandra.impl.CassandraClientImpl;
 
 public interface CassandraClient {
@@ -26,6 +28,9 @@ public interface CassandraClient {
         return new CassandraClientImpl(vertx, configuration, name);
     }
 
+    @Fluent
+    CassandraClient connect(Handler<AsyncResult<Void>> readyHandler);
+
     @Fluent
     CassandraClient execute(String statement, Handler<AsyncResult<ResultSet>> resultHandler);
 
@@ -40,6 +45,72 @@ public interface CassandraClient {
     CassandraClient executeWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
             Handler<AsyncResult<ResultSet>> resultHandler);
 
+    @Fluent
+    CassandraClient executeBatch(Batch batch, Handler<AsyncResult<ResultSet>> resultHandler);
+
+    @Fluent
+    CassandraClient executeBatchWithOptions(Batch batch, ExecutionOptions options,
+            Handler<AsyncResult<ResultSet>> resultHandler);
+
+    @Fluent
+    CassandraClient queryStream(String statement, Handler<AsyncResult<CassandraRowStream>> streamHandler);
+
+    @Fluent
+    CassandraClient queryStream(String statement, List<Object> parameters,
+            Handler<AsyncResult<CassandraRowStream>> streamHandler);
+
+    @Fluent
+    CassandraClient queryStreamWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            Handler<AsyncResult<CassandraRowStream>> streamHandler);
+
+    @Fluent
+    <T> CassandraClient query(String statement, List<Object> parameters, RowMapper<T> mapper,
+            Handler<AsyncResult<List<T>>> resultHandler);
+
+    // Mapped rows honor the decode mode and show in the slow query log, but are
+    // never cached: the objects a mapper returns belong to the caller and may
+    // be mutable
+    @Fluent
+    <T> CassandraClient queryWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            RowMapper<T> mapper, Handler<AsyncResult<List<T>>> resultHandler);
+
+    @Fluent
+    CassandraClient queryJson(String statement, List<Object> parameters, JsonFormat format,
+            Handler<AsyncResult<Buffer>> resultHandler);
+
+    @Fluent
+    CassandraClient queryJsonWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            JsonFormat format, Handler<AsyncResult<Buffer>> resultHandler);
+
+    @Fluent
+    <T> CassandraClient queryStream(String statement, List<Object> parameters, RowMapper<T> mapper,
+            Handler<AsyncResult<ReadStream<T>>> streamHandler);
+
+    // Streams map rows as they are read, so neither the decode mode nor the
+    // result cache apply to them
+    @Fluent
+    <T> CassandraClient queryStreamWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            RowMapper<T> mapper, Handler<AsyncResult<ReadStream<T>>> streamHandler);
+
+    @Fluent
+    CassandraClient fetchTrace(String traceId, Handler<AsyncResult<QueryTrace>> traceHandler);
+
+    CassandraWritePipeline createWritePipeline(WritePipelineOptions options);
+
+    CodecRegistry codecs();
+
+    JsonObject metrics();
+
+    CacheStats preparedStatementCacheStats();
+
+    List<SlowQuery> slowQueries();
+
+    CacheStats resultCacheStats();
+
+    void invalidateResultCache();
+
+    void invalidateResultCache(String statement);
+
     void close();
 
 }
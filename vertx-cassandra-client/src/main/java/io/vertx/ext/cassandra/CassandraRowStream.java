@@ -0,0 +1,11 @@
+package io.vertx.ext.cassandra;
+
+import java.util.List;
+
+import io.vertx.core.streams.ReadStream;
+
+public interface CassandraRowStream extends ReadStream<List<Object>> {
+
+    List<String> columns();
+
+}
@@ -0,0 +1,32 @@
+package io.vertx.ext.cassandra;
+
+import java.util.List;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.impl.service.CassandraServiceHandler;
+import io.vertx.ext.cassandra.impl.service.CassandraServiceProxy;
+
+public interface CassandraService {
+
+    static CassandraService createEventBusProxy(Vertx vertx, String address) {
+        return new CassandraServiceProxy(vertx, address);
+    }
+
+    static MessageConsumer<JsonObject> registerService(Vertx vertx, CassandraClient client, String address) {
+        return new CassandraServiceHandler(vertx, client).register(address);
+    }
+
+    @Fluent
+    CassandraService execute(String statement, List<Object> parameters,
+            Handler<AsyncResult<ResultSet>> resultHandler);
+
+    @Fluent
+    CassandraService executeWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            Handler<AsyncResult<ResultSet>> resultHandler);
+
+}
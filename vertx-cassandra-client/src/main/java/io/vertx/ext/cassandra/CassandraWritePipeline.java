@@ -0,0 +1,19 @@
+package io.vertx.ext.cassandra;
+
+import java.util.List;
+
+import io.vertx.codegen.annotations.Fluent;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Handler;
+
+public interface CassandraWritePipeline {
+
+    @Fluent
+    CassandraWritePipeline write(String statement, List<Object> parameters, Handler<AsyncResult<Void>> resultHandler);
+
+    @Fluent
+    CassandraWritePipeline flush();
+
+    void close();
+
+}
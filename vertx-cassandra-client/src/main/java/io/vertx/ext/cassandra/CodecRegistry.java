@@ -0,0 +1,18 @@
+package io.vertx.ext.cassandra;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+public interface CodecRegistry {
+
+    // Decodes a column of a driver row with the codec registered for the type,
+    // or returns null when the column is null
+    <T> T get(Row row, int column, Class<T> type);
+
+    <T> T get(Row row, String column, Class<T> type);
+
+    // Converts a value the driver already decoded from a column of the given
+    // type, as collected results no longer hold the cell bytes
+    <T> T convert(Object value, DataType cqlType, Class<T> type);
+
+}
@@ -0,0 +1,16 @@
+package io.vertx.ext.cassandra;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maps a setter, and its matching getter for binding, to a column. Without a
+// value the column is the lower cased property name.
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.METHOD)
+public @interface Column {
+
+    String value() default "";
+
+}
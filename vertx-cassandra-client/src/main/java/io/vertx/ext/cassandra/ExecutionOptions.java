@@ -7,45 +7,70 @@ import io.vertx.core.json.JsonObject;
 public class ExecutionOptions {
 
     public static final int DEFAULT_FETCH_SIZE = -1;
+    public static final int DEFAULT_DECODE_THRESHOLD = 1000;
 
     private boolean tracing = false;
+    private double tracingSampleRate = 0;
     private ConsistencyLevel consistencyLevel;
     private Long timestamp;
     private int fetchSize = DEFAULT_FETCH_SIZE;
     private boolean idempotent = false;
+    private boolean speculativeExecution = true;
     private RetryPolicy retryPolicy = RetryPolicy.DEFAULT;
     private ConsistencyLevel serialConsistencyLevel;
     private String pagingState;
+    private ResultMode resultMode = ResultMode.ROWS;
+    private DecodeMode decodeMode = DecodeMode.CONTEXT;
+    private int decodeThreshold = DEFAULT_DECODE_THRESHOLD;
+    private String queryName;
+    private long cacheTtl = 0;
 
     public ExecutionOptions() {
     }
 
     public ExecutionOptions(ExecutionOptions other) {
         this.tracing = other.tracing;
+        this.tracingSampleRate = other.tracingSampleRate;
         this.consistencyLevel = other.consistencyLevel;
         this.timestamp = other.timestamp;
         this.fetchSize = other.fetchSize;
         this.idempotent = other.idempotent;
+        this.speculativeExecution = other.speculativeExecution;
         this.retryPolicy = other.retryPolicy;
         this.serialConsistencyLevel = other.serialConsistencyLevel;
         this.pagingState = other.pagingState;
-
+        this.resultMode = other.resultMode;
+        this.decodeMode = other.decodeMode;
+        this.decodeThreshold = other.decodeThreshold;
+        this.queryName = other.queryName;
+        this.cacheTtl = other.cacheTtl;
     }
 
     public ExecutionOptions(JsonObject json) {
         this.tracing = json.getBoolean("tracing", false);
+        // Options may come from the event bus, so they are validated as well
+        this.setTracingSampleRate(json.getDouble("tracingSampleRate", 0d));
         this.consistencyLevel = this.getEnum(json.getString("consistencyLevel"), ConsistencyLevel.class);
         this.timestamp = json.getLong("timestamp", null);
         this.fetchSize = json.getInteger("fetchSize", -1);
         this.idempotent = json.getBoolean("idempotent", false);
+        this.speculativeExecution = json.getBoolean("speculativeExecution", true);
         this.retryPolicy = this.getEnum(json.getString("retryPolicy"), RetryPolicy.class);
         this.serialConsistencyLevel = this.getEnum(json.getString("serialConsistencyLevel"), ConsistencyLevel.class);
         this.pagingState = json.getString("pagingState");
+        this.resultMode = this.getEnum(json.getString("resultMode", ResultMode.ROWS.name()), ResultMode.class);
+        this.decodeMode = this.getEnum(json.getString("decodeMode", DecodeMode.CONTEXT.name()), DecodeMode.class);
+        this.decodeThreshold = json.getInteger("decodeThreshold", DEFAULT_DECODE_THRESHOLD);
+        this.queryName = json.getString("queryName");
+        this.cacheTtl = json.getLong("cacheTtl", 0L);
     }
 
     public JsonObject toJson() {
         JsonObject result = new JsonObject();
         result.put("tracing", this.tracing);
+        if (this.tracingSampleRate > 0) {
+            result.put("tracingSampleRate", this.tracingSampleRate);
+        }
         if (this.consistencyLevel != null) {
             result.put("consistencyLevel", this.consistencyLevel.name());
         }
@@ -56,6 +81,7 @@ public class ExecutionOptions {
             result.put("fetchSize", fetchSize);
         }
         result.put("idempotent", idempotent);
+        result.put("speculativeExecution", speculativeExecution);
         if (this.retryPolicy != null) {
             result.put("retryPolicy", this.retryPolicy.name());
         }
@@ -65,6 +91,21 @@ public class ExecutionOptions {
         if (this.pagingState != null) {
             result.put("pagingState", this.pagingState);
         }
+        if (this.resultMode != null) {
+            result.put("resultMode", this.resultMode.name());
+        }
+        if (this.decodeMode != null) {
+            result.put("decodeMode", this.decodeMode.name());
+        }
+        if (this.decodeThreshold != DEFAULT_DECODE_THRESHOLD) {
+            result.put("decodeThreshold", this.decodeThreshold);
+        }
+        if (this.queryName != null) {
+            result.put("queryName", this.queryName);
+        }
+        if (this.cacheTtl > 0) {
+            result.put("cacheTtl", this.cacheTtl);
+        }
         return result;
     }
 
@@ -77,6 +118,18 @@ public class ExecutionOptions {
         return this;
     }
 
+    public double getTracingSampleRate() {
+        return tracingSampleRate;
+    }
+
+    public ExecutionOptions setTracingSampleRate(double tracingSampleRate) {
+        if (tracingSampleRate < 0 || tracingSampleRate > 1) {
+            throw new IllegalArgumentException("Tracing sample rate must be between 0 and 1: " + tracingSampleRate);
+        }
+        this.tracingSampleRate = tracingSampleRate;
+        return this;
+    }
+
     public ConsistencyLevel getConsistencyLevel() {
         return consistencyLevel;
     }
@@ -113,6 +166,15 @@ public class ExecutionOptions {
         return this;
     }
 
+    public boolean isSpeculativeExecution() {
+        return speculativeExecution;
+    }
+
+    public ExecutionOptions setSpeculativeExecution(boolean speculativeExecution) {
+        this.speculativeExecution = speculativeExecution;
+        return this;
+    }
+
     public RetryPolicy getRetryPolicy() {
         return retryPolicy;
     }
@@ -140,6 +202,51 @@ public class ExecutionOptions {
         return this;
     }
 
+    public ResultMode getResultMode() {
+        return resultMode;
+    }
+
+    public ExecutionOptions setResultMode(ResultMode resultMode) {
+        this.resultMode = resultMode;
+        return this;
+    }
+
+    public DecodeMode getDecodeMode() {
+        return decodeMode;
+    }
+
+    public ExecutionOptions setDecodeMode(DecodeMode decodeMode) {
+        this.decodeMode = decodeMode;
+        return this;
+    }
+
+    public int getDecodeThreshold() {
+        return decodeThreshold;
+    }
+
+    public ExecutionOptions setDecodeThreshold(int decodeThreshold) {
+        this.decodeThreshold = decodeThreshold;
+        return this;
+    }
+
+    public String getQueryName() {
+        return queryName;
+    }
+
+    public ExecutionOptions setQueryName(String queryName) {
+        this.queryName = queryName;
+        return this;
+    }
+
+    public long getCacheTtl() {
+        return cacheTtl;
+    }
+
+    public ExecutionOptions setCacheTtl(long cacheTtl) {
+        this.cacheTtl = cacheTtl;
+        return this;
+    }
+
     private <T extends Enum<T>> T getEnum(String name, Class<T> enumClass) {
         if (name == null) {
             return null;
@@ -0,0 +1,5 @@
+package io.vertx.ext.cassandra;
+
+public enum JsonFormat {
+    OBJECTS, ARRAYS
+}
@@ -0,0 +1,127 @@
+package io.vertx.ext.cassandra;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class QueryTrace {
+
+    private String traceId;
+    private String requestType;
+    private int durationMicros;
+    private String coordinator;
+    private JsonObject parameters = new JsonObject();
+    private long startedAt;
+    private List<TraceEvent> events = new ArrayList<>();
+
+    public QueryTrace() {
+    }
+
+    public QueryTrace(QueryTrace other) {
+        this.traceId = other.traceId;
+        this.requestType = other.requestType;
+        this.durationMicros = other.durationMicros;
+        this.coordinator = other.coordinator;
+        this.parameters = other.parameters.copy();
+        this.startedAt = other.startedAt;
+        this.events = new ArrayList<>(other.events);
+    }
+
+    public QueryTrace(JsonObject json) {
+        this.traceId = json.getString("traceId");
+        this.requestType = json.getString("requestType");
+        this.durationMicros = json.getInteger("durationMicros", 0);
+        this.coordinator = json.getString("coordinator");
+        this.parameters = json.getJsonObject("parameters", new JsonObject());
+        this.startedAt = json.getLong("startedAt", 0L);
+        json.getJsonArray("events", new JsonArray()).forEach(e -> this.events.add(new TraceEvent((JsonObject) e)));
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        if (this.traceId != null) {
+            result.put("traceId", this.traceId);
+        }
+        if (this.requestType != null) {
+            result.put("requestType", this.requestType);
+        }
+        result.put("durationMicros", this.durationMicros);
+        if (this.coordinator != null) {
+            result.put("coordinator", this.coordinator);
+        }
+        result.put("parameters", this.parameters);
+        result.put("startedAt", this.startedAt);
+        JsonArray events = new JsonArray();
+        this.events.forEach(e -> events.add(e.toJson()));
+        result.put("events", events);
+        return result;
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public QueryTrace setTraceId(String traceId) {
+        this.traceId = traceId;
+        return this;
+    }
+
+    public String getRequestType() {
+        return requestType;
+    }
+
+    public QueryTrace setRequestType(String requestType) {
+        this.requestType = requestType;
+        return this;
+    }
+
+    public int getDurationMicros() {
+        return durationMicros;
+    }
+
+    public QueryTrace setDurationMicros(int durationMicros) {
+        this.durationMicros = durationMicros;
+        return this;
+    }
+
+    public String getCoordinator() {
+        return coordinator;
+    }
+
+    public QueryTrace setCoordinator(String coordinator) {
+        this.coordinator = coordinator;
+        return this;
+    }
+
+    public JsonObject getParameters() {
+        return parameters;
+    }
+
+    public QueryTrace setParameters(JsonObject parameters) {
+        this.parameters = parameters;
+        return this;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public QueryTrace setStartedAt(long startedAt) {
+        this.startedAt = startedAt;
+        return this;
+    }
+
+    public List<TraceEvent> getEvents() {
+        return events;
+    }
+
+    public QueryTrace setEvents(List<TraceEvent> events) {
+        this.events = events;
+        return this;
+    }
+
+}
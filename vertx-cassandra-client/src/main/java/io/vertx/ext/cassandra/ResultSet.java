@@ -1,7 +1,12 @@
 package io.vertx.ext.cassandra;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+
 public class ResultSet {
 
     private List<String> names;
@@ -14,10 +19,18 @@ public class ResultSet {
         this.metaInformation = metaInformation;
     }
 
+    protected ResultSet(List<String> names, ExecutionInfo metaInformation) {
+        this(names, null, metaInformation);
+    }
+
     public int size() {
         return values.size();
     }
 
+    public List<String> getColumnNames() {
+        return names;
+    }
+
     public List<List<Object>> getValues() {
         return values;
     }
@@ -26,4 +39,80 @@ public class ResultSet {
         return metaInformation;
     }
 
+    public Object getObject(int row, int column) {
+        return this.getValues().get(row).get(column);
+    }
+
+    public boolean isNull(int row, int column) {
+        return this.getObject(row, column) == null;
+    }
+
+    public String getString(int row, int column) {
+        return (String) this.getObject(row, column);
+    }
+
+    // Typed accessors follow the driver: a null cell reads as 0 or false
+
+    public int getInt(int row, int column) {
+        Number value = (Number) this.getObject(row, column);
+        return value == null ? 0 : value.intValue();
+    }
+
+    public long getLong(int row, int column) {
+        Number value = (Number) this.getObject(row, column);
+        return value == null ? 0L : value.longValue();
+    }
+
+    public float getFloat(int row, int column) {
+        Number value = (Number) this.getObject(row, column);
+        return value == null ? 0f : value.floatValue();
+    }
+
+    public double getDouble(int row, int column) {
+        Number value = (Number) this.getObject(row, column);
+        return value == null ? 0d : value.doubleValue();
+    }
+
+    public boolean getBoolean(int row, int column) {
+        Boolean value = (Boolean) this.getObject(row, column);
+        return value == null ? false : value;
+    }
+
+    // Reads a cell as any type the driver decodes it to, or as one handled by
+    // a registered codec (i.e: a JsonObject from a map column)
+    public <T> T get(int row, int column, Class<T> type) {
+        Object value = this.getObject(row, column);
+        if (value == null || type.isInstance(value)) {
+            return type.cast(value);
+        }
+        return this.convert(value, column, type);
+    }
+
+    // Results collected by the client know the column types and convert with
+    // the registered codecs
+    protected <T> T convert(Object value, int column, Class<T> type) {
+        throw new ClassCastException("Column " + column + " holds a " + value.getClass().getName() + ", not a "
+                + type.getName());
+    }
+
+    public Buffer getBuffer(int row, int column) {
+        ByteBuffer bytes = this.getBytes(row, column);
+        // Wrapping shares the driver's bytes, no copy is made
+        return bytes == null ? null : Buffer.buffer(Unpooled.wrappedBuffer(bytes));
+    }
+
+    protected ByteBuffer getBytes(int row, int column) {
+        Object value = this.getObject(row, column);
+        if (value == null) {
+            return null;
+        } else if (value instanceof ByteBuffer) {
+            return ((ByteBuffer) value).duplicate();
+        } else if (value instanceof String) {
+            return ByteBuffer.wrap(((String) value).getBytes(StandardCharsets.UTF_8));
+        } else {
+            throw new ClassCastException("Column " + column + " holds a " + value.getClass().getName()
+                    + ", not a blob or text value");
+        }
+    }
+
 }
@@ -0,0 +1,14 @@
+package io.vertx.ext.cassandra;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// The vertx-cassandra-codegen processor generates a RowMapper for the
+// annotated class, named after it with a RowMapper suffix, in the same package.
+// Only setters annotated with Column are mapped.
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface RowMapped {
+}
@@ -0,0 +1,43 @@
+package io.vertx.ext.cassandra;
+
+import java.util.List;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.Row;
+
+public interface RowMapper<T> {
+
+    List<String> columns();
+
+    // indexes[i] is the position of columns().get(i) in the row, or -1 when
+    // the result does not have that column
+    T map(Row row, int[] indexes);
+
+    // Values in columns() order, ready to bind to insertInto(table)
+    List<Object> bind(T value);
+
+    default int[] indexes(ColumnDefinitions definitions) {
+        List<String> columns = this.columns();
+        int[] result = new int[columns.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = definitions.contains(columns.get(i)) ? definitions.getIndexOf(columns.get(i)) : -1;
+        }
+        return result;
+    }
+
+    default String insertInto(String table) {
+        List<String> columns = this.columns();
+        StringBuilder names = new StringBuilder();
+        StringBuilder markers = new StringBuilder();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                names.append(", ");
+                markers.append(", ");
+            }
+            names.append(columns.get(i));
+            markers.append('?');
+        }
+        return "insert into " + table + " (" + names + ") values (" + markers + ")";
+    }
+
+}
@@ -0,0 +1,163 @@
+package io.vertx.ext.cassandra;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class SlowQuery {
+
+    private String statement;
+    private int parameterCount;
+    private String coordinator;
+    private ConsistencyLevel achievedConsistencyLevel;
+    private int rows;
+    private long latencyMicros;
+    private long decodeMicros;
+    private int retries;
+    private long timestamp;
+    private String error;
+
+    public SlowQuery() {
+    }
+
+    public SlowQuery(SlowQuery other) {
+        this.statement = other.statement;
+        this.parameterCount = other.parameterCount;
+        this.coordinator = other.coordinator;
+        this.achievedConsistencyLevel = other.achievedConsistencyLevel;
+        this.rows = other.rows;
+        this.latencyMicros = other.latencyMicros;
+        this.decodeMicros = other.decodeMicros;
+        this.retries = other.retries;
+        this.timestamp = other.timestamp;
+        this.error = other.error;
+    }
+
+    public SlowQuery(JsonObject json) {
+        this.statement = json.getString("statement");
+        this.parameterCount = json.getInteger("parameterCount", 0);
+        this.coordinator = json.getString("coordinator");
+        String consistency = json.getString("achievedConsistencyLevel");
+        this.achievedConsistencyLevel = consistency == null ? null : ConsistencyLevel.valueOf(consistency);
+        this.rows = json.getInteger("rows", 0);
+        this.latencyMicros = json.getLong("latencyMicros", 0L);
+        this.decodeMicros = json.getLong("decodeMicros", 0L);
+        this.retries = json.getInteger("retries", 0);
+        this.timestamp = json.getLong("timestamp", 0L);
+        this.error = json.getString("error");
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        if (this.statement != null) {
+            result.put("statement", this.statement);
+        }
+        result.put("parameterCount", this.parameterCount);
+        if (this.coordinator != null) {
+            result.put("coordinator", this.coordinator);
+        }
+        if (this.achievedConsistencyLevel != null) {
+            result.put("achievedConsistencyLevel", this.achievedConsistencyLevel.name());
+        }
+        result.put("rows", this.rows);
+        result.put("latencyMicros", this.latencyMicros);
+        result.put("decodeMicros", this.decodeMicros);
+        result.put("retries", this.retries);
+        result.put("timestamp", this.timestamp);
+        if (this.error != null) {
+            result.put("error", this.error);
+        }
+        return result;
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+
+    public SlowQuery setStatement(String statement) {
+        this.statement = statement;
+        return this;
+    }
+
+    public int getParameterCount() {
+        return parameterCount;
+    }
+
+    public SlowQuery setParameterCount(int parameterCount) {
+        this.parameterCount = parameterCount;
+        return this;
+    }
+
+    public String getCoordinator() {
+        return coordinator;
+    }
+
+    public SlowQuery setCoordinator(String coordinator) {
+        this.coordinator = coordinator;
+        return this;
+    }
+
+    public ConsistencyLevel getAchievedConsistencyLevel() {
+        return achievedConsistencyLevel;
+    }
+
+    public SlowQuery setAchievedConsistencyLevel(ConsistencyLevel achievedConsistencyLevel) {
+        this.achievedConsistencyLevel = achievedConsistencyLevel;
+        return this;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public SlowQuery setRows(int rows) {
+        this.rows = rows;
+        return this;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    public SlowQuery setLatencyMicros(long latencyMicros) {
+        this.latencyMicros = latencyMicros;
+        return this;
+    }
+
+    public long getDecodeMicros() {
+        return decodeMicros;
+    }
+
+    public SlowQuery setDecodeMicros(long decodeMicros) {
+        this.decodeMicros = decodeMicros;
+        return this;
+    }
+
+    public int getRetries() {
+        return retries;
+    }
+
+    public SlowQuery setRetries(int retries) {
+        this.retries = retries;
+        return this;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public SlowQuery setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public SlowQuery setError(String error) {
+        this.error = error;
+        return this;
+    }
+
+}
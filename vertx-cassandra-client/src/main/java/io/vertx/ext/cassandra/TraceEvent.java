@@ -0,0 +1,95 @@
+package io.vertx.ext.cassandra;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class TraceEvent {
+
+    private String description;
+    private long timestamp;
+    private String source;
+    private int sourceElapsedMicros;
+    private String thread;
+
+    public TraceEvent() {
+    }
+
+    public TraceEvent(TraceEvent other) {
+        this.description = other.description;
+        this.timestamp = other.timestamp;
+        this.source = other.source;
+        this.sourceElapsedMicros = other.sourceElapsedMicros;
+        this.thread = other.thread;
+    }
+
+    public TraceEvent(JsonObject json) {
+        this.description = json.getString("description");
+        this.timestamp = json.getLong("timestamp", 0L);
+        this.source = json.getString("source");
+        this.sourceElapsedMicros = json.getInteger("sourceElapsedMicros", 0);
+        this.thread = json.getString("thread");
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        if (this.description != null) {
+            result.put("description", this.description);
+        }
+        result.put("timestamp", this.timestamp);
+        if (this.source != null) {
+            result.put("source", this.source);
+        }
+        result.put("sourceElapsedMicros", this.sourceElapsedMicros);
+        if (this.thread != null) {
+            result.put("thread", this.thread);
+        }
+        return result;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public TraceEvent setDescription(String description) {
+        this.description = description;
+        return this;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public TraceEvent setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public TraceEvent setSource(String source) {
+        this.source = source;
+        return this;
+    }
+
+    public int getSourceElapsedMicros() {
+        return sourceElapsedMicros;
+    }
+
+    public TraceEvent setSourceElapsedMicros(int sourceElapsedMicros) {
+        this.sourceElapsedMicros = sourceElapsedMicros;
+        return this;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public TraceEvent setThread(String thread) {
+        this.thread = thread;
+        return this;
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.vertx.ext.cassandra;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+// Converts a Java type straight to and from the protocol bytes of the CQL
+// types it accepts. The CQL type is null when a value is bound to a statement
+// that is not prepared, so there is no metadata to serialize against
+public interface TypeCodec<T> {
+
+    Class<T> getJavaType();
+
+    boolean accepts(DataType cqlType);
+
+    ByteBuffer serialize(T value, DataType cqlType, ProtocolVersion protocolVersion);
+
+    T deserialize(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion);
+
+}
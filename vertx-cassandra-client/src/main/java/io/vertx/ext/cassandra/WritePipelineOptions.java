@@ -0,0 +1,59 @@
+package io.vertx.ext.cassandra;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.json.JsonObject;
+
+@DataObject
+public class WritePipelineOptions {
+
+    public static final long DEFAULT_WINDOW = 5;
+    public static final int DEFAULT_MAX_BATCH_SIZE = 20;
+
+    private long window = DEFAULT_WINDOW;
+    private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    public WritePipelineOptions() {
+    }
+
+    public WritePipelineOptions(WritePipelineOptions other) {
+        this.window = other.window;
+        this.maxBatchSize = other.maxBatchSize;
+    }
+
+    public WritePipelineOptions(JsonObject json) {
+        this.setWindow(json.getLong("window", DEFAULT_WINDOW));
+        this.setMaxBatchSize(json.getInteger("maxBatchSize", DEFAULT_MAX_BATCH_SIZE));
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        result.put("window", this.window);
+        result.put("maxBatchSize", this.maxBatchSize);
+        return result;
+    }
+
+    public long getWindow() {
+        return window;
+    }
+
+    public WritePipelineOptions setWindow(long window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("The window must be at least 1ms");
+        }
+        this.window = window;
+        return this;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public WritePipelineOptions setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+}
@@ -1,31 +1,49 @@
 package io.vertx.ext.cassandra.impl;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-
-import com.datastax.driver.core.PagingState;
-import com.datastax.driver.core.QueryOptions;
-import com.datastax.driver.core.ResultSetFuture;
-import com.datastax.driver.core.SimpleStatement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
 import com.datastax.driver.core.Statement;
-import com.datastax.driver.core.policies.DefaultRetryPolicy;
-import com.datastax.driver.core.policies.DowngradingConsistencyRetryPolicy;
-import com.datastax.driver.core.policies.FallthroughRetryPolicy;
-import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 
 import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.LocalMap;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.cassandra.Batch;
+import io.vertx.ext.cassandra.CacheStats;
 import io.vertx.ext.cassandra.CassandraClient;
-import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.CassandraRowStream;
+import io.vertx.ext.cassandra.CassandraWritePipeline;
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.DecodeMode;
 import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.JsonFormat;
+import io.vertx.ext.cassandra.QueryTrace;
+import io.vertx.ext.cassandra.ResultMode;
 import io.vertx.ext.cassandra.ResultSet;
-import io.vertx.ext.cassandra.RetryPolicy;
+import io.vertx.ext.cassandra.RowMapper;
+import io.vertx.ext.cassandra.SlowQuery;
+import io.vertx.ext.cassandra.WritePipelineOptions;
 import io.vertx.ext.cassandra.impl.util.DelegateFutureCallback;
 import io.vertx.ext.cassandra.impl.util.VertxExecutor;
 
@@ -33,9 +51,17 @@ public class CassandraClientImpl implements CassandraClient {
 
     private static final String CASSANDRA_HANDLES_MAP = "__vertx.CassandraClient.handles";
 
+    private static final Lock[] HANDLE_LOCKS = new Lock[16];
+
+    static {
+        for (int i = 0; i < HANDLE_LOCKS.length; i++) {
+            HANDLE_LOCKS[i] = new ReentrantLock();
+        }
+    }
+
     private Vertx vertx;
     private CassandraHandle handle;
-    private VertxExecutor executor;
+    private StatementBuilder statementBuilder;
 
     public CassandraClientImpl(Vertx vertx, JsonObject configuration, String dsName) {
         Objects.requireNonNull(vertx);
@@ -44,31 +70,82 @@ public class CassandraClientImpl implements CassandraClient {
 
         this.vertx = vertx;
         this.handle = this.lookupHandle(vertx, configuration, dsName);
-        this.executor = new VertxExecutor(vertx);
+        this.statementBuilder = new StatementBuilder(handle.codecs());
+    }
+
+    CassandraHandle handle() {
+        return handle;
     }
 
     private CassandraHandle lookupHandle(Vertx vertx, JsonObject configuration, String dsName) {
-        synchronized (vertx) {
-            LocalMap<String, CassandraHandle> map = vertx.sharedData().getLocalMap(CASSANDRA_HANDLES_MAP);
+        LocalMap<String, CassandraHandle> map = vertx.sharedData().getLocalMap(CASSANDRA_HANDLES_MAP);
+        CassandraHandle existing = map.get(dsName);
+        if (existing != null && existing.tryAddReference()) {
+            return existing;
+        }
+
+        // Only creating or replacing a handle needs a lock, and only the one
+        // for its name
+        Lock lock = this.lockFor(dsName);
+        lock.lock();
+        try {
+            map = vertx.sharedData().getLocalMap(CASSANDRA_HANDLES_MAP);
             CassandraHandle handle = map.get(dsName);
-            if (handle == null) {
-                handle = new CassandraHandle(vertx, configuration, () -> this.removeHandle(map, dsName));
+            if (handle == null || !handle.tryAddReference()) {
+                LocalMap<String, CassandraHandle> handles = map;
+                handle = new CassandraHandle(vertx, configuration, () -> this.removeHandle(handles, dsName));
+                handle.tryAddReference();
                 map.put(dsName, handle);
             }
-            handle.addReference();
             return handle;
+        } finally {
+            lock.unlock();
         }
     }
 
     private void removeHandle(LocalMap<String, CassandraHandle> map, String dsName) {
-        synchronized (vertx) {
-            map.remove(dsName);
-            if (map.isEmpty()) {
-                map.close();
+        Lock lock = this.lockFor(dsName);
+        lock.lock();
+        try {
+            // A lookup may already have replaced the destroyed handle
+            CassandraHandle current = map.get(dsName);
+            if (current != null && current.isDestroyed()) {
+                map.remove(dsName);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (map.isEmpty()) {
+            // Closing the map must not race with a lookup that is about to
+            // add to it, so this rare path takes every stripe
+            for (Lock stripe : HANDLE_LOCKS) {
+                stripe.lock();
+            }
+            try {
+                if (map.isEmpty()) {
+                    map.close();
+                }
+            } finally {
+                for (Lock stripe : HANDLE_LOCKS) {
+                    stripe.unlock();
+                }
             }
         }
     }
 
+    private Lock lockFor(String dsName) {
+        return HANDLE_LOCKS[(dsName.hashCode() & 0x7fffffff) % HANDLE_LOCKS.length];
+    }
+
+    @Override
+    public CassandraClient connect(Handler<AsyncResult<Void>> readyHandler) {
+        Context context = vertx.getOrCreateContext();
+        Futures.addCallback(handle.ready(context), new DelegateFutureCallback<Void>(readyHandler),
+                new VertxExecutor(context));
+        return this;
+    }
+
     @Override
     public CassandraClient execute(String statement, Handler<AsyncResult<ResultSet>> resultHandler) {
         return this.execute(statement, Collections.emptyList(), resultHandler);
@@ -80,16 +157,63 @@ public class CassandraClientImpl implements CassandraClient {
         return this.executeWithOptions(statement, parameters, this.getDefaultExecutionOptions(), resultHandler);
     }
 
-    private FutureCallback<com.datastax.driver.core.ResultSet> collectResultSetRows(
-            Handler<AsyncResult<ResultSet>> resultHandler) {
+    private void collectResultSetRows(ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture,
+            ExecutionOptions options, Context context, StatementMetrics statementMetrics, long start,
+            SlowQueryLog.Probe probe, Handler<AsyncResult<ResultSet>> handler) {
+
+        this.recordCompletion(queryFuture, statementMetrics, start);
+
+        ResultMode mode = options == null || options.getResultMode() == null ? ResultMode.ROWS
+                : options.getResultMode();
+        QueryResultsCollector collector = new QueryResultsCollector(handle.codecs());
+
+        // Unlike other decoders, ResultSet collection is thread safe, so large
+        // pages are decoded in parallel chunks
+        Function<com.datastax.driver.core.ResultSet, CompletableFuture<ResultSet>> parallel = rs -> {
+            long decodeStart = System.nanoTime();
+            return collector.collectResultsInParallel(rs, mode, ForkJoinPool.commonPool()).thenApply(result -> {
+                long decodeTime = System.nanoTime() - decodeStart;
+                statementMetrics.decoded(result.size(), decodeTime);
+                if (probe != null) {
+                    probe.decoded(rs, decodeTime);
+                }
+                return result;
+            });
+        };
+
+        this.decode(queryFuture, options, context, rs -> this.decode(collector, rs, mode, statementMetrics, probe),
+                parallel, probe == null ? handler : ar -> {
+                    probe.completed(ar.result(), ar.cause());
+                    handler.handle(ar);
+                });
+    }
 
-        return new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
-            if (ar.succeeded()) {
-                resultHandler.handle(Future.succeededFuture(new QueryResultsCollector().collectResults(ar.result())));
-            } else {
-                resultHandler.handle(Future.failedFuture(ar.cause()));
-            }
-        });
+    private ResultSet decode(QueryResultsCollector collector, com.datastax.driver.core.ResultSet cassandraResultSet,
+            ResultMode mode, StatementMetrics statementMetrics, SlowQueryLog.Probe probe) {
+        long decodeStart = System.nanoTime();
+        ResultSet result = collector.collectResults(cassandraResultSet, mode);
+        long decodeTime = System.nanoTime() - decodeStart;
+        statementMetrics.decoded(result.size(), decodeTime);
+        if (probe != null) {
+            probe.decoded(cassandraResultSet, decodeTime);
+        }
+        return result;
+    }
+
+    private StatementMetrics statementMetrics(String statement, ExecutionOptions options) {
+        return handle.metrics().statement(this.metricsName(statement, options));
+    }
+
+    private String metricsName(String statement, ExecutionOptions options) {
+        return options != null && options.getQueryName() != null ? options.getQueryName() : statement;
+    }
+
+    private void recordCompletion(ListenableFuture<?> queryFuture, StatementMetrics statementMetrics, long start) {
+        ClientMetrics metrics = handle.metrics();
+        if (metrics.isEnabled()) {
+            Futures.addCallback(queryFuture, new DelegateFutureCallback<Object>(
+                    ar -> metrics.completed(statementMetrics, start, ar.failed())));
+        }
     }
 
     @Override
@@ -103,73 +227,480 @@ public class CassandraClientImpl implements CassandraClient {
     public CassandraClient executeWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
             Handler<AsyncResult<ResultSet>> resultHandler) {
 
-        Statement stmt = this.buildStatement(statement, parameters, options);
+        Context context = vertx.getOrCreateContext();
+
+        ResultCache resultCache = handle.resultCache();
+        if (options != null && options.getCacheTtl() > 0 && resultCache.isEnabled()
+                && ResultCache.isCacheable(statement, options)) {
+            ResultSet cached = resultCache.get(statement, parameters, options);
+            if (cached != null) {
+                // Hits are requests too, so they still show in the metrics
+                // and the slow query log
+                StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+                long start = handle.metrics().started();
+                SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(statement, options),
+                        statement, parameters.size(), start);
+                context.runOnContext(v -> {
+                    handle.metrics().completed(statementMetrics, start, false);
+                    if (probe != null) {
+                        probe.completed(cached, null);
+                    }
+                    resultHandler.handle(Future.succeededFuture(cached));
+                });
+                return this;
+            }
+            long ttl = options.getCacheTtl();
+            return this.execute(context, statement, parameters, options, ar -> {
+                if (ar.succeeded()) {
+                    resultCache.put(statement, parameters, options, ar.result(), ttl);
+                }
+                resultHandler.handle(ar);
+            });
+        }
+
+        return this.execute(context, statement, parameters, options, resultHandler);
+    }
+
+    private CassandraClient execute(Context context, String statement, List<Object> parameters,
+            ExecutionOptions options, Handler<AsyncResult<ResultSet>> resultHandler) {
+
+        StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+        long start = handle.metrics().started();
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(statement, options), statement,
+                parameters.size(), start);
+
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeAsync(context, statement,
+                parameters, options);
+
+        this.collectResultSetRows(queryFuture, options, context, statementMetrics, start, probe, resultHandler);
+        return this;
+    }
+
+    @Override
+    public CassandraClient executeBatch(Batch batch, Handler<AsyncResult<ResultSet>> resultHandler) {
+        return this.executeBatchWithOptions(batch, this.getDefaultExecutionOptions(), resultHandler);
+    }
+
+    @Override
+    public CassandraClient executeBatchWithOptions(Batch batch, ExecutionOptions options,
+            Handler<AsyncResult<ResultSet>> resultHandler) {
+
+        Context context = vertx.getOrCreateContext();
+        String name = "BATCH " + batch.getType().name();
+        StatementMetrics statementMetrics = this.statementMetrics(name, options);
+        long start = handle.metrics().started();
+        int parameterCount = 0;
+        for (List<Object> parameters : batch.getParameters()) {
+            parameterCount += parameters.size();
+        }
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(name, options),
+                name + " (" + batch.size() + " statements)", parameterCount, start);
 
-        ResultSetFuture queryFuture = handle.cassandra().executeAsync(stmt);
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeBatchAsync(context, batch,
+                options);
 
-        Futures.addCallback(queryFuture, this.collectResultSetRows(resultHandler), executor);
+        this.collectResultSetRows(queryFuture, options, context, statementMetrics, start, probe, resultHandler);
         return this;
     }
 
-    private Statement buildStatement(String statement, List<Object> parameters, ExecutionOptions options) {
+    @Override
+    public CassandraClient queryStream(String statement, Handler<AsyncResult<CassandraRowStream>> streamHandler) {
+        return this.queryStream(statement, Collections.emptyList(), streamHandler);
+    }
+
+    @Override
+    public CassandraClient queryStream(String statement, List<Object> parameters,
+            Handler<AsyncResult<CassandraRowStream>> streamHandler) {
+        return this.queryStreamWithOptions(statement, parameters, this.getDefaultExecutionOptions(), streamHandler);
+    }
+
+    @Override
+    public CassandraClient queryStreamWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            Handler<AsyncResult<CassandraRowStream>> streamHandler) {
 
-        SimpleStatement result = new SimpleStatement(statement, parameters.toArray());
+        Context context = vertx.getOrCreateContext();
+        StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+        long start = handle.metrics().started();
 
-        if (options == null) {
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeAsync(context, statement,
+                parameters, options);
+        this.recordCompletion(queryFuture, statementMetrics, start);
+
+        Futures.addCallback(queryFuture, new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+            if (ar.succeeded()) {
+                streamHandler.handle(Future.succeededFuture(new CassandraRowStreamImpl(context, ar.result())));
+            } else {
+                streamHandler.handle(Future.failedFuture(ar.cause()));
+            }
+        }), new VertxExecutor(context));
+        return this;
+    }
+
+    @Override
+    public <T> CassandraClient query(String statement, List<Object> parameters, RowMapper<T> mapper,
+            Handler<AsyncResult<List<T>>> resultHandler) {
+        return this.queryWithOptions(statement, parameters, this.getDefaultExecutionOptions(), mapper, resultHandler);
+    }
+
+    @Override
+    public <T> CassandraClient queryWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            RowMapper<T> mapper, Handler<AsyncResult<List<T>>> resultHandler) {
+
+        Context context = vertx.getOrCreateContext();
+        StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+        long start = handle.metrics().started();
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(statement, options), statement,
+                parameters.size(), start);
+
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeAsync(context, statement,
+                parameters, options);
+        this.recordCompletion(queryFuture, statementMetrics, start);
+
+        Function<com.datastax.driver.core.ResultSet, List<T>> map = rs -> {
+            long decodeStart = System.nanoTime();
+            int[] indexes = mapper.indexes(rs.getColumnDefinitions());
+            int available = rs.getAvailableWithoutFetching();
+            List<T> result = new ArrayList<>(available);
+            for (int i = 0; i < available; i++) {
+                result.add(mapper.map(rs.one(), indexes));
+            }
+            long decodeTime = System.nanoTime() - decodeStart;
+            statementMetrics.decoded(result.size(), decodeTime);
+            if (probe != null) {
+                probe.decoded(rs, decodeTime);
+            }
             return result;
+        };
+
+        this.decode(queryFuture, options, context, map, probe == null ? resultHandler : ar -> {
+            probe.completed(ar.succeeded() ? ar.result().size() : -1, ar.cause());
+            resultHandler.handle(ar);
+        });
+        return this;
+    }
+
+    // Runs a decoding step where the decode mode of the options asks for it,
+    // and hands its result to the handler on the context
+    private <R> void decode(ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture,
+            ExecutionOptions options, Context context, Function<com.datastax.driver.core.ResultSet, R> decoder,
+            Handler<AsyncResult<R>> handler) {
+        this.decode(queryFuture, options, context, decoder, null, handler);
+    }
+
+    // A worker decoder, when given, replaces the decoder for pages that are
+    // decoded off the event loop
+    private <R> void decode(ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture,
+            ExecutionOptions options, Context context, Function<com.datastax.driver.core.ResultSet, R> decoder,
+            Function<com.datastax.driver.core.ResultSet, CompletableFuture<R>> workerDecoder,
+            Handler<AsyncResult<R>> handler) {
+
+        ClientMetrics metrics = handle.metrics();
+        VertxExecutor executor = metrics.isEnabled() ? new VertxExecutor(context, metrics::dispatched)
+                : new VertxExecutor(context);
+        DecodeMode mode = options == null ? null : options.getDecodeMode();
+
+        if (mode == DecodeMode.IO_THREAD) {
+            Futures.addCallback(Futures.transform(queryFuture, decoder), new DelegateFutureCallback<R>(handler),
+                    executor);
+            return;
         }
 
-        if (options.isTracing())
-            result.enableTracing();
-        else
-            result.disableTracing();
+        Futures.addCallback(queryFuture, new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+            if (ar.succeeded() && mode == DecodeMode.WORKER
+                    && ar.result().getAvailableWithoutFetching() > options.getDecodeThreshold()) {
+                // A decoder may not be thread safe, so without a worker
+                // decoder the page is decoded off the event loop in one piece
+                CompletableFuture<R> decoded;
+                try {
+                    decoded = workerDecoder != null ? workerDecoder.apply(ar.result())
+                            : CompletableFuture.supplyAsync(() -> decoder.apply(ar.result()),
+                                    ForkJoinPool.commonPool());
+                } catch (RuntimeException e) {
+                    handler.handle(Future.failedFuture(e));
+                    return;
+                }
+                decoded.whenComplete((result, t) -> context.runOnContext(v -> {
+                    if (t == null) {
+                        handler.handle(Future.succeededFuture(result));
+                    } else {
+                        handler.handle(Future.failedFuture(t instanceof CompletionException ? t.getCause() : t));
+                    }
+                }));
+            } else if (ar.succeeded()) {
+                R result;
+                try {
+                    result = decoder.apply(ar.result());
+                } catch (RuntimeException e) {
+                    handler.handle(Future.failedFuture(e));
+                    return;
+                }
+                handler.handle(Future.succeededFuture(result));
+            } else {
+                handler.handle(Future.failedFuture(ar.cause()));
+            }
+        }), executor);
+    }
 
-        if (options.getConsistencyLevel() != null)
-            result.setConsistencyLevel(
-                    com.datastax.driver.core.ConsistencyLevel.valueOf(options.getConsistencyLevel().name()));
+    @Override
+    public CassandraClient queryJson(String statement, List<Object> parameters, JsonFormat format,
+            Handler<AsyncResult<Buffer>> resultHandler) {
+        return this.queryJsonWithOptions(statement, parameters, this.getDefaultExecutionOptions(), format,
+                resultHandler);
+    }
 
-        if (options.getTimestamp() != null)
-            result.setDefaultTimestamp(options.getTimestamp());
+    @Override
+    public CassandraClient queryJsonWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            JsonFormat format, Handler<AsyncResult<Buffer>> resultHandler) {
+
+        Context context = vertx.getOrCreateContext();
+        StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+        long start = handle.metrics().started();
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(statement, options), statement,
+                parameters.size(), start);
+
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeAsync(context, statement,
+                parameters, options);
+        this.recordCompletion(queryFuture, statementMetrics, start);
+
+        // The buffer does not tell how many rows it holds, so the count is
+        // kept for the slow query log
+        int[] rows = { -1 };
+        Function<com.datastax.driver.core.ResultSet, Buffer> serialize = rs -> {
+            long decodeStart = System.nanoTime();
+            rows[0] = rs.getAvailableWithoutFetching();
+            Buffer json = new JsonRowWriter(rs.getColumnDefinitions(), format).write(rs);
+            long decodeTime = System.nanoTime() - decodeStart;
+            statementMetrics.decoded(rows[0], decodeTime);
+            if (probe != null) {
+                probe.decoded(rs, decodeTime);
+            }
+            return json;
+        };
 
-        result.setFetchSize(options.getFetchSize());
-        result.setIdempotent(options.isIdempotent());
+        this.decode(queryFuture, options, context, serialize, probe == null ? resultHandler : ar -> {
+            probe.completed(ar.succeeded() ? rows[0] : -1, ar.cause());
+            resultHandler.handle(ar);
+        });
+        return this;
+    }
 
-        if (options.getPagingState() != null)
-            result.setPagingState(PagingState.fromString(options.getPagingState()));
+    @Override
+    public <T> CassandraClient queryStream(String statement, List<Object> parameters, RowMapper<T> mapper,
+            Handler<AsyncResult<ReadStream<T>>> streamHandler) {
+        return this.queryStreamWithOptions(statement, parameters, this.getDefaultExecutionOptions(), mapper,
+                streamHandler);
+    }
 
-        if (result.getRetryPolicy() != null)
-            result.setRetryPolicy(this.mapRetryPolicyToCassandraClass(options.getRetryPolicy()));
+    @Override
+    public <T> CassandraClient queryStreamWithOptions(String statement, List<Object> parameters,
+            ExecutionOptions options, RowMapper<T> mapper, Handler<AsyncResult<ReadStream<T>>> streamHandler) {
+
+        Context context = vertx.getOrCreateContext();
+        StatementMetrics statementMetrics = this.statementMetrics(statement, options);
+        long start = handle.metrics().started();
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(this.metricsName(statement, options), statement,
+                parameters.size(), start);
+
+        ListenableFuture<com.datastax.driver.core.ResultSet> queryFuture = this.executeAsync(context, statement,
+                parameters, options);
+        this.recordCompletion(queryFuture, statementMetrics, start);
+
+        // Rows are mapped as the stream is read, so the decode mode does not
+        // apply and only the first page shows in the slow query log
+        Futures.addCallback(queryFuture, new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+            if (ar.succeeded()) {
+                if (probe != null) {
+                    probe.decoded(ar.result(), 0);
+                    probe.completed(ar.result().getAvailableWithoutFetching(), null);
+                }
+                // Column positions are the same on every page, so resolve them once
+                int[] indexes = mapper.indexes(ar.result().getColumnDefinitions());
+                streamHandler.handle(Future.succeededFuture(
+                        new RowStreamImpl<T>(context, ar.result(), row -> mapper.map(row, indexes))));
+            } else {
+                if (probe != null) {
+                    probe.completed(-1, ar.cause());
+                }
+                streamHandler.handle(Future.failedFuture(ar.cause()));
+            }
+        }), new VertxExecutor(context));
+        return this;
+    }
 
-        if (result.getSerialConsistencyLevel() != null)
-            result.setSerialConsistencyLevel(
-                    com.datastax.driver.core.ConsistencyLevel.valueOf(options.getSerialConsistencyLevel().name()));
+    private ListenableFuture<com.datastax.driver.core.ResultSet> executeAsync(Context context, String statement,
+            List<Object> parameters, ExecutionOptions options) {
 
-        return result;
+        Session connected = handle.connectedSession();
+        if (connected != null) {
+            return this.executeAsync(context, connected, statement, parameters, options);
+        }
+
+        // Requests issued while the session is still connecting wait for it here
+        return Futures.transform(handle.session(),
+                (AsyncFunction<Session, com.datastax.driver.core.ResultSet>) session -> this.executeAsync(context,
+                        session, statement, parameters, options));
     }
 
-    private com.datastax.driver.core.policies.RetryPolicy mapRetryPolicyToCassandraClass(RetryPolicy retryPolicy) {
-        switch (retryPolicy) {
-        case DEFAULT:
-            return DefaultRetryPolicy.INSTANCE;
-        case DOWNGRADING:
-            return DowngradingConsistencyRetryPolicy.INSTANCE;
-        case FALLTHROUGH:
-            return FallthroughRetryPolicy.INSTANCE;
-        default:
-            throw new IllegalArgumentException("Unknown RetryPolicy: " + retryPolicy);
+    private ListenableFuture<com.datastax.driver.core.ResultSet> executeAsync(Context context, Session session,
+            String statement, List<Object> parameters, ExecutionOptions options) {
+
+        PreparedStatementCache preparedStatements = handle.preparedStatements();
+
+        if (parameters.isEmpty() || !preparedStatements.isEnabled()) {
+            Statement stmt = statementBuilder.applyOptions(statementBuilder.simple(statement, parameters), options);
+            return this.send(context, session, stmt, options);
         }
+
+        return Futures.transform(preparedStatements.prepare(session, statement),
+                (AsyncFunction<PreparedStatement, com.datastax.driver.core.ResultSet>) prepared -> {
+                    Statement stmt = statementBuilder.bind(prepared, statement, parameters);
+                    return this.send(context, session, statementBuilder.applyOptions(stmt, options), options);
+                });
     }
 
-    private ExecutionOptions getDefaultExecutionOptions() {
-        ExecutionOptions result = new ExecutionOptions();
-        result.setConsistencyLevel(ConsistencyLevel.valueOf(QueryOptions.DEFAULT_CONSISTENCY_LEVEL.name()));
-        result.setFetchSize(QueryOptions.DEFAULT_FETCH_SIZE);
-        result.setSerialConsistencyLevel(
-                ConsistencyLevel.valueOf(QueryOptions.DEFAULT_SERIAL_CONSISTENCY_LEVEL.name()));
-        result.setIdempotent(QueryOptions.DEFAULT_IDEMPOTENCE);
+    private ListenableFuture<com.datastax.driver.core.ResultSet> executeBatchAsync(Context context, Batch batch,
+            ExecutionOptions options) {
+
+        Session connected = handle.connectedSession();
+        if (connected != null) {
+            return this.executeBatchAsync(context, connected, batch, options);
+        }
+
+        return Futures.transform(handle.session(),
+                (AsyncFunction<Session, com.datastax.driver.core.ResultSet>) session -> this.executeBatchAsync(context,
+                        session, batch, options));
+    }
+
+    private ListenableFuture<com.datastax.driver.core.ResultSet> executeBatchAsync(Context context, Session session,
+            Batch batch, ExecutionOptions options) {
+
+        PreparedStatementCache preparedStatements = handle.preparedStatements();
+
+        // Prepare every distinct parameterized statement only once
+        Map<String, ListenableFuture<PreparedStatement>> prepared = new LinkedHashMap<>();
+        if (preparedStatements.isEnabled()) {
+            for (int i = 0; i < batch.size(); i++) {
+                String statement = batch.getStatements().get(i);
+                if (!batch.getParameters().get(i).isEmpty() && !prepared.containsKey(statement)) {
+                    prepared.put(statement, preparedStatements.prepare(session, statement));
+                }
+            }
+        }
+
+        return Futures.transform(Futures.allAsList(prepared.values()),
+                (AsyncFunction<List<PreparedStatement>, com.datastax.driver.core.ResultSet>) done -> {
+                    List<Statement> statements = new ArrayList<>(batch.size());
+                    for (int i = 0; i < batch.size(); i++) {
+                        String statement = batch.getStatements().get(i);
+                        List<Object> parameters = batch.getParameters().get(i);
+                        ListenableFuture<PreparedStatement> preparedStatement = prepared.get(statement);
+                        if (preparedStatement == null) {
+                            statements.add(statementBuilder.simple(statement, parameters));
+                        } else {
+                            statements.add(statementBuilder.bind(Futures.getUnchecked(preparedStatement), statement,
+                                    parameters));
+                        }
+                    }
+                    return this.send(context, session,
+                            statementBuilder.applyOptions(statementBuilder.batch(batch.getType(), statements), options),
+                            options);
+                });
+    }
+
+    // Statements built elsewhere, such as the batches of a write pipeline, go
+    // through the same concurrency limit and speculative execution tracking
+    ListenableFuture<com.datastax.driver.core.ResultSet> send(Context context, Statement statement) {
+        Session connected = handle.connectedSession();
+        if (connected != null) {
+            return this.send(context, connected, statement, null);
+        }
+
+        return Futures.transform(handle.session(),
+                (AsyncFunction<Session, com.datastax.driver.core.ResultSet>) session -> this.send(context, session,
+                        statement, null));
+    }
+
+    private ListenableFuture<com.datastax.driver.core.ResultSet> send(Context context, Session session,
+            Statement statement, ExecutionOptions options) {
+        SpeculativeExecutionTracker speculativeExecutions = handle.speculativeExecutions();
+        if (speculativeExecutions != null && options != null && !options.isSpeculativeExecution()) {
+            speculativeExecutions.exclude(statement);
+        }
+
+        ConcurrencyLimiter limiter = handle.concurrencyLimiter();
+        ListenableFuture<com.datastax.driver.core.ResultSet> result = limiter == null ? session.executeAsync(statement)
+                : limiter.submit(new VertxExecutor(context), () -> session.executeAsync(statement));
+
+        if (speculativeExecutions != null && this.isIdempotent(session, statement)) {
+            Futures.addCallback(result, new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+                if (ar.succeeded()) {
+                    speculativeExecutions.completed(statement, ar.result().getExecutionInfo());
+                } else {
+                    speculativeExecutions.failed(statement);
+                }
+            }));
+        }
         return result;
     }
 
+    // Statements sent without options leave idempotence unset, in which case
+    // the driver applies the configured default
+    private boolean isIdempotent(Session session, Statement statement) {
+        Boolean idempotent = statement.isIdempotent();
+        return idempotent != null ? idempotent
+                : session.getCluster().getConfiguration().getQueryOptions().getDefaultIdempotence();
+    }
+
+    private ExecutionOptions getDefaultExecutionOptions() {
+        return handle.defaultExecutionOptions();
+    }
+
+    @Override
+    public CassandraClient fetchTrace(String traceId, Handler<AsyncResult<QueryTrace>> traceHandler) {
+        new TraceFetcher(vertx, this).fetch(traceId, traceHandler);
+        return this;
+    }
+
+    @Override
+    public CassandraWritePipeline createWritePipeline(WritePipelineOptions options) {
+        return new WritePipelineImpl(vertx.getOrCreateContext(), this, handle, statementBuilder, options);
+    }
+
+    @Override
+    public CodecRegistry codecs() {
+        return handle.codecs();
+    }
+
+    @Override
+    public JsonObject metrics() {
+        return handle.metricsSnapshot();
+    }
+
+    @Override
+    public CacheStats preparedStatementCacheStats() {
+        return handle.preparedStatements().stats();
+    }
+
+    @Override
+    public CacheStats resultCacheStats() {
+        return handle.resultCache().stats();
+    }
+
+    @Override
+    public void invalidateResultCache() {
+        handle.resultCache().invalidateAll();
+    }
+
+    @Override
+    public void invalidateResultCache(String statement) {
+        handle.resultCache().invalidate(statement);
+    }
+
+    @Override
+    public List<SlowQuery> slowQueries() {
+        return handle.slowQueries().snapshot();
+    }
+
     @Override
     public void close() {
         handle.decreaseReference();
@@ -1,48 +1,320 @@
 package io.vertx.ext.cassandra.impl;
 
+import io.vertx.core.Context;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.shareddata.Shareable;
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.impl.options.CassandraClientOptionsParser;
 import io.vertx.ext.cassandra.impl.options.CassandraDriverOptionsParser;
+import io.vertx.ext.cassandra.impl.util.DelegateFutureCallback;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.QueryOptions;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 
 public class CassandraHandle implements Shareable {
 
     private Vertx vertx;
     private JsonObject configuration;
 
-    private int references = 0;
+    // Number of clients using the handle, or -1 once it has been destroyed
+    private final AtomicInteger references = new AtomicInteger();
 
-    private Cluster cluster;
-    private Session session;
+    // Published once and then only read, so requests never take the monitor
+    private volatile Cluster cluster;
+    private volatile ListenableFuture<Session> session;
+    private volatile Session connected;
+    private volatile ListenableFuture<Void> ready;
+    private volatile SpeculativeExecutionTracker speculativeExecutions;
     private Runnable destroyRunnable;
 
+    private PreparedStatementCache preparedStatements;
+    private ResultCache resultCache;
+    private ClientMetrics metrics;
+    private ConcurrencyLimiter concurrencyLimiter;
+    private SlowQueryLog slowQueries;
+    private CodecRegistryImpl codecs;
+    private ExecutionOptions defaultExecutionOptions;
+    private ScheduledExecutorService metricsPublisher;
+
+    private List<String> warmUpStatements;
+    private int warmUpConnections;
+    private long warmUpTimeout;
+
     public CassandraHandle(Vertx vertx, JsonObject configuration, Runnable destroyRunnable) {
         this.vertx = vertx;
         this.configuration = configuration;
         this.destroyRunnable = destroyRunnable;
+
+        CassandraClientOptionsParser options = new CassandraClientOptionsParser(configuration);
+        this.preparedStatements = new PreparedStatementCache(options.preparedStatementCacheSize());
+        this.metrics = new ClientMetrics(options.metricsEnabled(), options.metricsMaxStatements());
+        if (options.concurrencyLimitEnabled()) {
+            this.concurrencyLimiter = new ConcurrencyLimiter(options.concurrencyAlgorithm(),
+                    options.concurrencyInitialLimit(), options.concurrencyMinLimit(), options.concurrencyMaxLimit(),
+                    options.concurrencyMaxQueue(), options.concurrencyBackoffRatio(),
+                    options.concurrencyLatencyThreshold(), options.concurrencySmoothing());
+        }
+        this.slowQueries = new SlowQueryLog(options.slowQueryThreshold(), options.slowQueryThresholds(),
+                options.slowQueryCapacity());
+        this.codecs = new CodecRegistryImpl(options.codecs());
+        this.resultCache = new ResultCache(options.resultCacheMaxBytes(), codecs);
+        this.defaultExecutionOptions = this.toExecutionOptions(
+                CassandraDriverOptionsParser.parseQueryOptions(configuration));
+        this.warmUpStatements = options.warmUpStatements();
+        this.warmUpConnections = options.warmUpConnections();
+        this.warmUpTimeout = options.warmUpTimeout();
+
+        if (metrics.isEnabled() && options.metricsPublishAddress() != null) {
+            String address = options.metricsPublishAddress();
+            long period = options.metricsPublishPeriod();
+            // Not a Vert.x timer: those are cancelled with the verticle that
+            // set them, while the handle outlives the client that created it
+            metricsPublisher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "vertx-cassandra-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            metricsPublisher.scheduleAtFixedRate(() -> vertx.eventBus().publish(address, this.metricsSnapshot()),
+                    period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public ListenableFuture<Session> session() {
+        ListenableFuture<Session> result = session;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            if (session == null) {
+                session = this.connect();
+            }
+            return session;
+        }
+    }
+
+    // The connected session, or null while it is still connecting
+    public Session connectedSession() {
+        return connected;
+    }
+
+    private ListenableFuture<Session> connect() {
+        CassandraDriverOptionsParser options = new CassandraDriverOptionsParser(configuration);
+        Cluster newCluster = Cluster.buildFrom(options.configuration());
+        if (options.percentileTracker() != null) {
+            // Percentile based speculation only sees latencies it is registered for
+            newCluster.register(options.percentileTracker());
+        }
+        speculativeExecutions = options.speculativeExecutions();
+        cluster = newCluster;
+
+        SettableFuture<Session> result = SettableFuture.create();
+        // Initializing the cluster contacts the nodes synchronously, so it
+        // must not run on an event loop; the rest of the connection is async
+        vertx.<Void> executeBlocking(future -> {
+            newCluster.init();
+            future.complete();
+        }, false, ar -> {
+            if (ar.failed()) {
+                this.connectFailed(result, newCluster, ar.cause());
+                return;
+            }
+            codecs.protocolVersion(newCluster.getConfiguration().getProtocolOptions().getProtocolVersionEnum());
+            String keyspace = options.keyspace();
+            ListenableFuture<Session> opening = keyspace == null ? newCluster.connectAsync()
+                    : newCluster.connectAsync(keyspace);
+            Futures.addCallback(opening, new DelegateFutureCallback<Session>(connection -> {
+                if (connection.succeeded()) {
+                    this.connected = connection.result();
+                    result.set(connection.result());
+                } else {
+                    this.connectFailed(result, newCluster, connection.cause());
+                }
+            }));
+        });
+        return result;
+    }
+
+    private synchronized void connectFailed(SettableFuture<Session> result, Cluster failedCluster, Throwable cause) {
+        // Forget the failed attempt so that the next request tries again
+        if (session == result) {
+            session = null;
+            ready = null;
+        }
+        failedCluster.closeAsync();
+        result.setException(cause);
+    }
+
+    // Waiting for the connection pools polls on the context of the first
+    // caller, like any other timer it sets
+    public ListenableFuture<Void> ready(Context context) {
+        ListenableFuture<Void> result = ready;
+        if (result != null) {
+            return result;
+        }
+        synchronized (this) {
+            if (ready == null) {
+                ListenableFuture<Void> warmingUp = Futures.transform(this.session(),
+                        (AsyncFunction<Session, Void>) connected -> this.warmUp(connected, context));
+                ready = warmingUp;
+                Futures.addCallback(warmingUp, new DelegateFutureCallback<Void>(ar -> {
+                    if (ar.failed()) {
+                        this.warmUpFailed(warmingUp);
+                    }
+                }));
+            }
+            return ready;
+        }
+    }
+
+    private synchronized void warmUpFailed(ListenableFuture<Void> failed) {
+        // A timed out or failed warm up is not final: the next connect tries
+        // again instead of getting the same failure forever
+        if (ready == failed) {
+            ready = null;
+        }
+    }
+
+    private ListenableFuture<Void> warmUp(Session connected, Context context) {
+        List<ListenableFuture<PreparedStatement>> prepared = new ArrayList<>(warmUpStatements.size());
+        if (preparedStatements.isEnabled()) {
+            warmUpStatements.forEach(statement -> prepared.add(preparedStatements.prepare(connected, statement)));
+        }
+
+        return Futures.transform(Futures.allAsList(prepared), (AsyncFunction<List<PreparedStatement>, Void>) done -> {
+            SettableFuture<Void> result = SettableFuture.create();
+            long deadline = System.currentTimeMillis() + warmUpTimeout;
+            context.runOnContext(v -> this.awaitConnections(connected, deadline, result));
+            return result;
+        });
+    }
+
+    private void awaitConnections(Session connected, long deadline, SettableFuture<Void> result) {
+        Session.State state = connected.getState();
+        // The default core connections depend on the protocol version, so
+        // hosts are only awaited up to what their pool actually opens
+        PoolingOptions pooling = connected.getCluster().getConfiguration().getPoolingOptions();
+        LoadBalancingPolicy balancing = connected.getCluster().getConfiguration().getPolicies()
+                .getLoadBalancingPolicy();
+        int missing = 0;
+        for (Host host : state.getConnectedHosts()) {
+            int expected = Math.min(warmUpConnections, pooling.getCoreConnectionsPerHost(balancing.distance(host)));
+            missing += Math.max(0, expected - state.getOpenConnections(host));
+        }
+        if (missing == 0) {
+            result.set(null);
+        } else if (System.currentTimeMillis() >= deadline) {
+            result.setException(new IllegalStateException("Connection pools did not reach " + warmUpConnections
+                    + " connections per host within " + warmUpTimeout + " ms"));
+        } else {
+            vertx.setTimer(50, id -> this.awaitConnections(connected, deadline, result));
+        }
+    }
+
+    public PreparedStatementCache preparedStatements() {
+        return preparedStatements;
+    }
+
+    public ResultCache resultCache() {
+        return resultCache;
+    }
+
+    private ExecutionOptions toExecutionOptions(QueryOptions queryOptions) {
+        ExecutionOptions result = new ExecutionOptions();
+        result.setConsistencyLevel(ConsistencyLevel.valueOf(queryOptions.getConsistencyLevel().name()));
+        result.setFetchSize(queryOptions.getFetchSize());
+        result.setSerialConsistencyLevel(ConsistencyLevel.valueOf(queryOptions.getSerialConsistencyLevel().name()));
+        result.setIdempotent(queryOptions.getDefaultIdempotence());
+        return result;
+    }
+
+    // Shared by every request that does not pass its own options, so callers
+    // must not modify it
+    public ExecutionOptions defaultExecutionOptions() {
+        return defaultExecutionOptions;
+    }
+
+    public CodecRegistryImpl codecs() {
+        return codecs;
     }
 
-    public synchronized Session cassandra() {
-        if (session == null) {
-            CassandraDriverOptionsParser options = new CassandraDriverOptionsParser(configuration);
-            cluster = Cluster.buildFrom(options.configuration());
-            session = cluster.connect(options.keyspace());
+    public SlowQueryLog slowQueries() {
+        return slowQueries;
+    }
+
+    public ConcurrencyLimiter concurrencyLimiter() {
+        return concurrencyLimiter;
+    }
+
+    public SpeculativeExecutionTracker speculativeExecutions() {
+        return speculativeExecutions;
+    }
+
+    public ClientMetrics metrics() {
+        return metrics;
+    }
+
+    public JsonObject metricsSnapshot() {
+        JsonObject result = metrics.snapshot().put("preparedStatementCache", preparedStatements.stats().toJson());
+        if (resultCache.isEnabled()) {
+            result.put("resultCache", resultCache.stats().toJson().put("bytes", resultCache.bytes()));
+        }
+        if (speculativeExecutions != null) {
+            result.put("speculativeExecutions", speculativeExecutions.toJson());
+        }
+        if (concurrencyLimiter != null) {
+            result.put("concurrencyLimit", concurrencyLimiter.stats());
+        }
+        return result;
+    }
+
+    public boolean tryAddReference() {
+        while (true) {
+            int current = references.get();
+            if (current < 0) {
+                return false;
+            }
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
         }
-        return session;
     }
 
-    public synchronized void addReference() {
-        references++;
+    public boolean isDestroyed() {
+        return references.get() < 0;
     }
 
-    public synchronized void decreaseReference() {
-        references--;
-        if (references == 0) {
+    public void decreaseReference() {
+        // A concurrent tryAddReference may revive the handle between both
+        // steps, in which case the CAS fails and nothing is destroyed
+        if (references.decrementAndGet() == 0 && references.compareAndSet(0, -1)) {
+            if (metricsPublisher != null) {
+                metricsPublisher.shutdown();
+            }
             if (session != null) {
-                session.closeAsync();
+                // A session still connecting is closed as soon as it is ready
+                Futures.transform(session, (Function<Session, Void>) opened -> {
+                    opened.closeAsync();
+                    return null;
+                });
             }
             if (cluster != null) {
                 cluster.closeAsync();
@@ -0,0 +1,32 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.datastax.driver.core.Row;
+
+import io.vertx.core.Context;
+import io.vertx.ext.cassandra.CassandraRowStream;
+
+public class CassandraRowStreamImpl extends RowStreamImpl<List<Object>> implements CassandraRowStream {
+
+    private final List<String> columns;
+
+    public CassandraRowStreamImpl(Context context, com.datastax.driver.core.ResultSet resultSet) {
+        super(context, resultSet, rowMapper(resultSet.getColumnDefinitions().size()));
+        this.columns = resultSet.getColumnDefinitions().asList().stream().map(d -> d.getName())
+                .collect(Collectors.toList());
+    }
+
+    private static Function<Row, List<Object>> rowMapper(int size) {
+        QueryResultsCollector collector = new QueryResultsCollector();
+        return r -> collector.rowToArray(r, size);
+    }
+
+    @Override
+    public List<String> columns() {
+        return columns;
+    }
+
+}
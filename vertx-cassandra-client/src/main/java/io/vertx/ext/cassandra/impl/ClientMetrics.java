@@ -0,0 +1,74 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.json.JsonObject;
+
+public class ClientMetrics {
+
+    public static final String OTHER_STATEMENTS = "__other";
+
+    private final boolean enabled;
+    private final int maxStatements;
+
+    private final Map<String, StatementMetrics> statements = new ConcurrentHashMap<>();
+    private final StatementMetrics disabled = new StatementMetrics();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LatencyHistogram dispatchDelay = new LatencyHistogram();
+
+    public ClientMetrics(boolean enabled, int maxStatements) {
+        this.enabled = enabled;
+        this.maxStatements = maxStatements;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public StatementMetrics statement(String name) {
+        if (!enabled) {
+            return disabled;
+        }
+        StatementMetrics result = statements.get(name);
+        if (result == null) {
+            // Non parameterized CQL can produce unbounded distinct texts, so
+            // past the limit everything is accounted together
+            String key = statements.size() < maxStatements ? name : OTHER_STATEMENTS;
+            result = statements.computeIfAbsent(key, k -> new StatementMetrics());
+        }
+        return result;
+    }
+
+    public long started() {
+        if (enabled) {
+            inFlight.incrementAndGet();
+        }
+        return System.nanoTime();
+    }
+
+    public void completed(StatementMetrics statement, long start, boolean failed) {
+        if (enabled) {
+            inFlight.decrementAndGet();
+            statement.executed(System.nanoTime() - start, failed);
+        }
+    }
+
+    public void dispatched(long delayNanos) {
+        if (enabled) {
+            dispatchDelay.record(delayNanos);
+        }
+    }
+
+    public JsonObject snapshot() {
+        JsonObject result = new JsonObject();
+        result.put("inFlight", inFlight.get());
+        result.put("dispatchDelay", dispatchDelay.toJson());
+        JsonObject perStatement = new JsonObject();
+        statements.forEach((name, metrics) -> perStatement.put(name, metrics.toJson()));
+        result.put("statements", perStatement);
+        return result;
+    }
+
+}
@@ -0,0 +1,129 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.TypeCodec;
+import io.vertx.ext.cassandra.impl.codec.BufferCodec;
+import io.vertx.ext.cassandra.impl.codec.JsonArrayCodec;
+import io.vertx.ext.cassandra.impl.codec.JsonObjectCodec;
+import io.vertx.ext.cassandra.impl.codec.TimestampCodec;
+
+public class CodecRegistryImpl implements CodecRegistry {
+
+    private final List<TypeCodec<?>> codecs;
+
+    // Codecs applicable to each Java class seen so far, so that binding the
+    // common values the driver handles itself costs one map lookup
+    private final ConcurrentMap<Class<?>, List<TypeCodec<?>>> byClass = new ConcurrentHashMap<>();
+
+    // Replaced by the negotiated version once the cluster is initialized, as
+    // collections are encoded differently before protocol v3
+    private volatile ProtocolVersion protocolVersion = ProtocolVersion.V3;
+
+    public CodecRegistryImpl(List<TypeCodec<?>> custom) {
+        // Custom codecs come first so they can replace a built-in one
+        codecs = new ArrayList<>(custom);
+        codecs.add(new JsonObjectCodec());
+        codecs.add(new JsonArrayCodec());
+        codecs.add(new BufferCodec());
+        codecs.add(new TimestampCodec<>(Instant.class, Instant::toEpochMilli, Instant::ofEpochMilli));
+        codecs.add(new TimestampCodec<>(OffsetDateTime.class, t -> t.toInstant().toEpochMilli(),
+                millis -> Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC)));
+        codecs.add(new TimestampCodec<>(ZonedDateTime.class, t -> t.toInstant().toEpochMilli(),
+                millis -> Instant.ofEpochMilli(millis).atZone(ZoneOffset.UTC)));
+        codecs.add(new TimestampCodec<>(LocalDateTime.class, t -> t.toInstant(ZoneOffset.UTC).toEpochMilli(),
+                millis -> Instant.ofEpochMilli(millis).atOffset(ZoneOffset.UTC).toLocalDateTime()));
+    }
+
+    public CodecRegistryImpl() {
+        this(Collections.emptyList());
+    }
+
+    public void protocolVersion(ProtocolVersion protocolVersion) {
+        this.protocolVersion = protocolVersion;
+    }
+
+    public boolean handles(Object value) {
+        return value != null && this.supports(value.getClass());
+    }
+
+    public boolean supports(Class<?> javaType) {
+        return !this.codecsFor(javaType).isEmpty();
+    }
+
+    // Serializes a value whose class has a codec, against the type of the
+    // bound variable when the statement is prepared or null otherwise
+    @SuppressWarnings("unchecked")
+    public ByteBuffer serialize(Object value, DataType cqlType) {
+        for (TypeCodec<?> codec : this.codecsFor(value.getClass())) {
+            if (cqlType == null || codec.accepts(cqlType)) {
+                return ((TypeCodec<Object>) codec).serialize(value, cqlType, protocolVersion);
+            }
+        }
+        throw new InvalidTypeException("No codec for " + value.getClass().getName() + " accepts " + cqlType);
+    }
+
+    @Override
+    public <T> T get(Row row, int column, Class<T> type) {
+        ByteBuffer bytes = row.getBytesUnsafe(column);
+        if (bytes == null) {
+            return null;
+        }
+        return this.deserialize(bytes.duplicate(), row.getColumnDefinitions().getType(column), type);
+    }
+
+    @Override
+    public <T> T get(Row row, String column, Class<T> type) {
+        return this.get(row, row.getColumnDefinitions().getIndexOf(column), type);
+    }
+
+    @Override
+    public <T> T convert(Object value, DataType cqlType, Class<T> type) {
+        if (value == null) {
+            return null;
+        }
+        return this.deserialize(cqlType.serialize(value, protocolVersion), cqlType, type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T deserialize(ByteBuffer bytes, DataType cqlType, Class<T> type) {
+        for (TypeCodec<?> codec : this.codecsFor(type)) {
+            if (codec.accepts(cqlType)) {
+                return ((TypeCodec<T>) codec).deserialize(bytes, cqlType, protocolVersion);
+            }
+        }
+        throw new InvalidTypeException("No codec for " + type.getName() + " accepts " + cqlType);
+    }
+
+    private List<TypeCodec<?>> codecsFor(Class<?> javaType) {
+        List<TypeCodec<?>> result = byClass.get(javaType);
+        if (result == null) {
+            List<TypeCodec<?>> matching = new ArrayList<>();
+            for (TypeCodec<?> codec : codecs) {
+                if (codec.getJavaType().isAssignableFrom(javaType)) {
+                    matching.add(codec);
+                }
+            }
+            result = matching.isEmpty() ? Collections.emptyList() : matching;
+            byClass.putIfAbsent(javaType, result);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,372 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.ExecutionInfo;
+
+public class ColumnarResultSet extends TypedResultSet {
+
+    private final int size;
+    private final Column[] columns;
+
+    private List<List<Object>> rows;
+
+    public ColumnarResultSet(List<String> names, List<DataType> types, int size, ExecutionInfo metaInformation,
+            CodecRegistry codecs) {
+        super(names, metaInformation, types, codecs);
+        this.size = size;
+        this.columns = new Column[types.size()];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = Column.forType(types.get(i), size);
+        }
+    }
+
+    public void fill(Row row, int index) {
+        for (int i = 0; i < columns.length; i++) {
+            columns[i].set(row, i, index);
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized List<List<Object>> getValues() {
+        if (rows == null) {
+            rows = new ArrayList<>(size);
+            for (int r = 0; r < size; r++) {
+                List<Object> row = new ArrayList<>(columns.length);
+                for (int c = 0; c < columns.length; c++) {
+                    row.add(this.getObject(r, c));
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Override
+    public Object getObject(int row, int column) {
+        Column c = this.column(row, column);
+        return c.isNull(row) ? null : c.getObject(row);
+    }
+
+    @Override
+    public boolean isNull(int row, int column) {
+        return this.column(row, column).isNull(row);
+    }
+
+    @Override
+    public int getInt(int row, int column) {
+        return this.column(row, column).getInt(row);
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+        return this.column(row, column).getLong(row);
+    }
+
+    @Override
+    public float getFloat(int row, int column) {
+        return this.column(row, column).getFloat(row);
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        return this.column(row, column).getDouble(row);
+    }
+
+    @Override
+    public boolean getBoolean(int row, int column) {
+        return this.column(row, column).getBoolean(row);
+    }
+
+    private Column column(int row, int column) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds, size is " + size);
+        }
+        return columns[column];
+    }
+
+    private abstract static class Column {
+
+        // One bit per row, set when the cell is null
+        private final long[] nulls;
+
+        protected Column(int size) {
+            this.nulls = new long[(size + 63) >>> 6];
+        }
+
+        static Column forType(DataType type, int size) {
+            switch (type.getName()) {
+            case INT:
+                return new IntColumn(size);
+            case BIGINT:
+            case COUNTER:
+                return new LongColumn(size);
+            case TIMESTAMP:
+                return new TimestampColumn(size);
+            case FLOAT:
+                return new FloatColumn(size);
+            case DOUBLE:
+                return new DoubleColumn(size);
+            case BOOLEAN:
+                return new BooleanColumn(size);
+            default:
+                return new ObjectColumn(size);
+            }
+        }
+
+        void set(Row row, int column, int index) {
+            if (row.isNull(column)) {
+                nulls[index >>> 6] |= 1L << index;
+            } else {
+                this.read(row, column, index);
+            }
+        }
+
+        boolean isNull(int index) {
+            return (nulls[index >>> 6] & (1L << index)) != 0;
+        }
+
+        abstract void read(Row row, int column, int index);
+
+        abstract Object getObject(int index);
+
+        int getInt(int index) {
+            throw this.wrongType("int");
+        }
+
+        long getLong(int index) {
+            throw this.wrongType("long");
+        }
+
+        float getFloat(int index) {
+            throw this.wrongType("float");
+        }
+
+        double getDouble(int index) {
+            throw this.wrongType("double");
+        }
+
+        boolean getBoolean(int index) {
+            throw this.wrongType("boolean");
+        }
+
+        private ClassCastException wrongType(String type) {
+            return new ClassCastException("Column of type " + this.getClass().getSimpleName() + " cannot be read as "
+                    + type);
+        }
+    }
+
+    private static class IntColumn extends Column {
+
+        private final int[] values;
+
+        IntColumn(int size) {
+            super(size);
+            values = new int[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getInt(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        int getInt(int index) {
+            return values[index];
+        }
+
+        @Override
+        long getLong(int index) {
+            return values[index];
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index];
+        }
+    }
+
+    private static class LongColumn extends Column {
+
+        protected final long[] values;
+
+        LongColumn(int size) {
+            super(size);
+            values = new long[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getLong(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        long getLong(int index) {
+            return values[index];
+        }
+    }
+
+    private static class TimestampColumn extends LongColumn {
+
+        TimestampColumn(int size) {
+            super(size);
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getDate(column).getTime();
+        }
+
+        @Override
+        Object getObject(int index) {
+            return new Date(values[index]);
+        }
+    }
+
+    private static class FloatColumn extends Column {
+
+        private final float[] values;
+
+        FloatColumn(int size) {
+            super(size);
+            values = new float[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getFloat(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        float getFloat(int index) {
+            return values[index];
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index];
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        DoubleColumn(int size) {
+            super(size);
+            values = new double[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getDouble(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index];
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+
+        private final boolean[] values;
+
+        BooleanColumn(int size) {
+            super(size);
+            values = new boolean[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getBool(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        boolean getBoolean(int index) {
+            return values[index];
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+
+        private final Object[] values;
+
+        ObjectColumn(int size) {
+            super(size);
+            values = new Object[size];
+        }
+
+        @Override
+        void read(Row row, int column, int index) {
+            values[index] = row.getObject(column);
+        }
+
+        @Override
+        Object getObject(int index) {
+            return values[index];
+        }
+
+        @Override
+        int getInt(int index) {
+            return values[index] == null ? 0 : ((Number) values[index]).intValue();
+        }
+
+        @Override
+        long getLong(int index) {
+            return values[index] == null ? 0L : ((Number) values[index]).longValue();
+        }
+
+        @Override
+        float getFloat(int index) {
+            return values[index] == null ? 0f : ((Number) values[index]).floatValue();
+        }
+
+        @Override
+        double getDouble(int index) {
+            return values[index] == null ? 0d : ((Number) values[index]).doubleValue();
+        }
+
+        @Override
+        boolean getBoolean(int index) {
+            return values[index] == null ? false : (Boolean) values[index];
+        }
+    }
+
+}
@@ -0,0 +1,252 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.datastax.driver.core.exceptions.QueryTimeoutException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.vertx.core.json.JsonObject;
+
+public class ConcurrencyLimiter {
+
+    public enum Algorithm {
+        AIMD, GRADIENT
+    }
+
+    private final Algorithm algorithm;
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final double backoffRatio;
+    private final long latencyThreshold;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final Queue<Pending<?>> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder rejected = new LongAdder();
+
+    // Samples after which the lowest latency seen is forgotten, so that one
+    // lucky sample or a change in the cluster does not pin the limit down
+    static final int RTT_WINDOW = 500;
+
+    // Only written by the thread holding the sampling flag, read lock free
+    // on every acquire
+    private final AtomicBoolean sampling = new AtomicBoolean();
+    private volatile int limit;
+    private double estimatedLimit;
+    private long minRtt = Long.MAX_VALUE;
+    private long windowMinRtt = Long.MAX_VALUE;
+    private int windowSamples;
+    // Requests started before the last decrease already ran under the old
+    // limit, so their drops belong to the same congestion event
+    private boolean decreased;
+    private long lastDecrease;
+
+    public ConcurrencyLimiter(Algorithm algorithm, int initialLimit, int minLimit, int maxLimit, int maxQueue,
+            double backoffRatio, long latencyThresholdMillis, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "Concurrency limits must satisfy 1 <= min_limit <= initial_limit <= max_limit");
+        }
+        this.algorithm = algorithm;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.backoffRatio = backoffRatio;
+        this.latencyThreshold = latencyThresholdMillis * 1000000;
+        this.smoothing = smoothing;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    // A queued task is started through the executor it was submitted with:
+    // permits are usually released by the driver I/O thread that completed a
+    // request, which must not be the one sending the next
+    public <T> ListenableFuture<T> submit(Executor executor, Supplier<ListenableFuture<T>> task) {
+        if (queue.isEmpty() && this.tryAcquire()) {
+            return this.start(task);
+        }
+
+        if (queued.incrementAndGet() > maxQueue) {
+            queued.decrementAndGet();
+            rejected.increment();
+            return Futures.immediateFailedFuture(new RejectedExecutionException(
+                    "Too many pending Cassandra requests: " + inFlight.get() + " in flight, " + maxQueue + " queued"));
+        }
+
+        Pending<T> pending = new Pending<>(task, executor);
+        queue.add(pending);
+        // A permit may have been released between the failed acquire and the enqueue
+        this.drain();
+        return pending.result;
+    }
+
+    private <T> ListenableFuture<T> start(Supplier<ListenableFuture<T>> task) {
+        long start = System.nanoTime();
+        int concurrency = inFlight.get();
+        ListenableFuture<T> result;
+        try {
+            result = task.get();
+        } catch (RuntimeException e) {
+            this.release();
+            return Futures.immediateFailedFuture(e);
+        }
+        Futures.addCallback(result, new FutureCallback<T>() {
+
+            @Override
+            public void onSuccess(T value) {
+                ConcurrencyLimiter.this.sample(start, System.nanoTime(), concurrency, false);
+                ConcurrencyLimiter.this.release();
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // Only failures caused by load tell something about the limit
+                if (t instanceof QueryTimeoutException || t instanceof NoHostAvailableException) {
+                    ConcurrencyLimiter.this.sample(start, System.nanoTime(), concurrency, true);
+                }
+                ConcurrencyLimiter.this.release();
+            }
+        });
+        return result;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        this.drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && this.tryAcquire()) {
+            Pending<?> pending = queue.poll();
+            if (pending == null) {
+                inFlight.decrementAndGet();
+                return;
+            }
+            queued.decrementAndGet();
+            pending.run();
+        }
+    }
+
+    // Runs on every completion, so it never blocks: a sample arriving while
+    // another one is applied is skipped, the estimate does not need them all
+    void sample(long start, long end, int concurrency, boolean dropped) {
+        if (!sampling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            this.apply(start, end, concurrency, dropped);
+        } finally {
+            sampling.set(false);
+        }
+    }
+
+    private void apply(long start, long end, int concurrency, boolean dropped) {
+        long rtt = end - start;
+        switch (algorithm) {
+        case AIMD:
+            if (dropped || rtt > latencyThreshold) {
+                this.decrease(start, end);
+            } else if (concurrency * 2 >= estimatedLimit) {
+                // Only grow when the current limit is actually being used
+                estimatedLimit = estimatedLimit + 1;
+            }
+            break;
+        case GRADIENT:
+            if (dropped) {
+                this.decrease(start, end);
+                break;
+            }
+            windowMinRtt = Math.min(windowMinRtt, rtt);
+            minRtt = Math.min(minRtt, rtt);
+            if (++windowSamples >= RTT_WINDOW) {
+                minRtt = windowMinRtt;
+                windowMinRtt = Long.MAX_VALUE;
+                windowSamples = 0;
+            }
+            // Latency above the best observed one means requests queue in
+            // Cassandra, so shrink proportionally and leave some headroom
+            double gradient = Math.max(0.5, Math.min(1.0, (double) minRtt / rtt));
+            double newLimit = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+            estimatedLimit = estimatedLimit * (1 - smoothing) + newLimit * smoothing;
+            break;
+        default:
+            throw new IllegalStateException("Unknown algorithm: " + algorithm);
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    private void decrease(long start, long end) {
+        if (!decreased || start - lastDecrease > 0) {
+            estimatedLimit = estimatedLimit * backoffRatio;
+            decreased = true;
+            lastDecrease = end;
+        }
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public JsonObject stats() {
+        return new JsonObject().put("algorithm", algorithm.name()).put("limit", limit).put("inFlight", inFlight.get())
+                .put("queued", queued.get()).put("rejected", rejected.sum());
+    }
+
+    private class Pending<T> {
+
+        private final Supplier<ListenableFuture<T>> task;
+        private final Executor executor;
+        private final SettableFuture<T> result = SettableFuture.create();
+
+        private Pending(Supplier<ListenableFuture<T>> task, Executor executor) {
+            this.task = task;
+            this.executor = executor;
+        }
+
+        private void run() {
+            executor.execute(this::start);
+        }
+
+        private void start() {
+            Futures.addCallback(ConcurrencyLimiter.this.start(task), new FutureCallback<T>() {
+
+                @Override
+                public void onSuccess(T value) {
+                    result.set(value);
+                }
+
+                @Override
+                public void onFailure(Throwable t) {
+                    result.setException(t);
+                }
+            });
+        }
+    }
+
+}
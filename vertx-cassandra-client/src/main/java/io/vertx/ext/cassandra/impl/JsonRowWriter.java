@@ -0,0 +1,236 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.ext.cassandra.JsonFormat;
+
+// Writes driver rows straight into JSON bytes. The encoder of every column is
+// picked once from the column definitions, so the per row work is a typed
+// getter and a generator call, with no intermediate rows or JsonObjects
+public class JsonRowWriter {
+
+    private interface ColumnEncoder {
+        void write(JsonGenerator generator, Row row, int column) throws IOException;
+    }
+
+    private interface ValueEncoder {
+        void write(JsonGenerator generator, Object value) throws IOException;
+    }
+
+    private interface KeyEncoder {
+        String key(Object value);
+    }
+
+    private final JsonFormat format;
+    private final SerializableString[] names;
+    private final ColumnEncoder[] encoders;
+
+    public JsonRowWriter(ColumnDefinitions definitions, JsonFormat format) {
+        this.format = format;
+
+        int size = definitions.size();
+        this.names = new SerializableString[size];
+        this.encoders = new ColumnEncoder[size];
+        for (int i = 0; i < size; i++) {
+            // Quoted and escaped once, not on every row
+            names[i] = new SerializedString(definitions.getName(i));
+            encoders[i] = columnEncoder(definitions.getType(i));
+        }
+    }
+
+    // Writes the rows available without fetching as one JSON array
+    public Buffer write(com.datastax.driver.core.ResultSet cassandraResultSet) {
+        int available = cassandraResultSet.getAvailableWithoutFetching();
+        ByteBuf bytes = Unpooled.buffer(Math.max(256, available * encoders.length * 16));
+
+        try (JsonGenerator generator = Json.mapper.getFactory()
+                .createGenerator((OutputStream) new ByteBufOutputStream(bytes))) {
+            generator.writeStartArray();
+            for (int i = 0; i < available; i++) {
+                this.write(generator, cassandraResultSet.one());
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return Buffer.buffer(bytes);
+    }
+
+    private void write(JsonGenerator generator, Row row) throws IOException {
+        if (format == JsonFormat.ARRAYS) {
+            generator.writeStartArray();
+            for (int i = 0; i < encoders.length; i++) {
+                this.writeColumn(generator, row, i);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeStartObject();
+            for (int i = 0; i < encoders.length; i++) {
+                generator.writeFieldName(names[i]);
+                this.writeColumn(generator, row, i);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeColumn(JsonGenerator generator, Row row, int column) throws IOException {
+        if (row.isNull(column)) {
+            generator.writeNull();
+        } else {
+            encoders[column].write(generator, row, column);
+        }
+    }
+
+    private static ColumnEncoder columnEncoder(DataType type) {
+        switch (type.getName()) {
+        case ASCII:
+        case TEXT:
+        case VARCHAR:
+            return (g, row, i) -> g.writeString(row.getString(i));
+        case BIGINT:
+        case COUNTER:
+            return (g, row, i) -> g.writeNumber(row.getLong(i));
+        case INT:
+            return (g, row, i) -> g.writeNumber(row.getInt(i));
+        case BOOLEAN:
+            return (g, row, i) -> g.writeBoolean(row.getBool(i));
+        case DOUBLE:
+            return (g, row, i) -> g.writeNumber(row.getDouble(i));
+        case FLOAT:
+            return (g, row, i) -> g.writeNumber(row.getFloat(i));
+        case DECIMAL:
+            return (g, row, i) -> g.writeNumber(row.getDecimal(i));
+        case VARINT:
+            return (g, row, i) -> g.writeNumber(row.getVarint(i));
+        case UUID:
+        case TIMEUUID:
+            return (g, row, i) -> g.writeString(row.getUUID(i).toString());
+        case INET:
+            return (g, row, i) -> g.writeString(row.getInet(i).getHostAddress());
+        case TIMESTAMP:
+            return (g, row, i) -> g.writeString(row.getDate(i).toInstant().toString());
+        case BLOB:
+            return (g, row, i) -> writeBytes(g, row.getBytesUnsafe(i));
+        default:
+            ValueEncoder encoder = valueEncoder(type);
+            return (g, row, i) -> encoder.write(g, row.getObject(i));
+        }
+    }
+
+    private static ValueEncoder valueEncoder(DataType type) {
+        switch (type.getName()) {
+        case ASCII:
+        case TEXT:
+        case VARCHAR:
+            return (g, value) -> g.writeString((String) value);
+        case BIGINT:
+        case COUNTER:
+            return (g, value) -> g.writeNumber((Long) value);
+        case INT:
+            return (g, value) -> g.writeNumber((Integer) value);
+        case BOOLEAN:
+            return (g, value) -> g.writeBoolean((Boolean) value);
+        case DOUBLE:
+            return (g, value) -> g.writeNumber((Double) value);
+        case FLOAT:
+            return (g, value) -> g.writeNumber((Float) value);
+        case DECIMAL:
+            return (g, value) -> g.writeNumber((BigDecimal) value);
+        case VARINT:
+            return (g, value) -> g.writeNumber((BigInteger) value);
+        case INET:
+            return (g, value) -> g.writeString(((InetAddress) value).getHostAddress());
+        case TIMESTAMP:
+            return (g, value) -> g.writeString(((Date) value).toInstant().toString());
+        case BLOB:
+            return (g, value) -> writeBytes(g, (ByteBuffer) value);
+        case LIST:
+        case SET:
+            return collectionEncoder(type.getTypeArguments().get(0));
+        case MAP:
+            return mapEncoder(type.getTypeArguments());
+        default:
+            // UUIDs and any type without a natural JSON form
+            return (g, value) -> g.writeString(value.toString());
+        }
+    }
+
+    private static ValueEncoder collectionEncoder(DataType elementType) {
+        ValueEncoder elements = valueEncoder(elementType);
+        return (g, value) -> {
+            g.writeStartArray();
+            for (Object element : (Collection<?>) value) {
+                if (element == null) {
+                    g.writeNull();
+                } else {
+                    elements.write(g, element);
+                }
+            }
+            g.writeEndArray();
+        };
+    }
+
+    private static ValueEncoder mapEncoder(List<DataType> typeArguments) {
+        KeyEncoder keys = keyEncoder(typeArguments.get(0));
+        ValueEncoder values = valueEncoder(typeArguments.get(1));
+        return (g, value) -> {
+            g.writeStartObject();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                g.writeFieldName(keys.key(entry.getKey()));
+                if (entry.getValue() == null) {
+                    g.writeNull();
+                } else {
+                    values.write(g, entry.getValue());
+                }
+            }
+            g.writeEndObject();
+        };
+    }
+
+    // JSON object keys are strings, so map keys use the string form of the
+    // encoding their values would get
+    private static KeyEncoder keyEncoder(DataType type) {
+        switch (type.getName()) {
+        case INET:
+            return value -> ((InetAddress) value).getHostAddress();
+        case TIMESTAMP:
+            return value -> ((Date) value).toInstant().toString();
+        default:
+            return value -> value.toString();
+        }
+    }
+
+    private static void writeBytes(JsonGenerator generator, ByteBuffer bytes) throws IOException {
+        if (bytes.hasArray()) {
+            generator.writeBinary(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+        } else {
+            byte[] copy = new byte[bytes.remaining()];
+            bytes.duplicate().get(copy);
+            generator.writeBinary(copy);
+        }
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import io.vertx.core.json.JsonObject;
+
+public class LatencyHistogram {
+
+    // Values are recorded in microseconds, anything above a minute is clamped.
+    // Two digits need a tenth of the memory of three, which matters with two
+    // histograms per statement
+    private static final long HIGHEST_TRACKABLE_VALUE = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    // Recording is wait free; what was recorded is only folded into the
+    // totals when a snapshot is taken
+    private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+    private final Histogram total = new Histogram(HIGHEST_TRACKABLE_VALUE, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+
+    public void record(long nanos) {
+        recorder.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_VALUE));
+    }
+
+    public synchronized JsonObject toJson() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+
+        JsonObject result = new JsonObject();
+        result.put("count", total.getTotalCount());
+        if (total.getTotalCount() > 0) {
+            result.put("min", total.getMinValue());
+            result.put("max", total.getMaxValue());
+            result.put("mean", total.getMean());
+            result.put("p50", total.getValueAtPercentile(50));
+            result.put("p75", total.getValueAtPercentile(75));
+            result.put("p95", total.getValueAtPercentile(95));
+            result.put("p99", total.getValueAtPercentile(99));
+            result.put("p999", total.getValueAtPercentile(99.9));
+        }
+        return result;
+    }
+
+}
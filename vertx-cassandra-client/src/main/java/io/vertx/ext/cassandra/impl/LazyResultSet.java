@@ -0,0 +1,151 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.Row;
+
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.ExecutionInfo;
+
+public class LazyResultSet extends TypedResultSet {
+
+    private static final Object NOT_DECODED = new Object();
+
+    // Driver rows keep the undecoded cell bytes, so nothing is deserialized
+    // until a cell is read
+    private final List<Row> rows;
+    private final DataType.Name[] types;
+    private final Object[][] decoded;
+
+    private List<List<Object>> values;
+
+    public LazyResultSet(List<String> names, List<DataType> types, List<Row> rows, ExecutionInfo metaInformation,
+            CodecRegistry codecs) {
+        super(names, metaInformation, types, codecs);
+        this.rows = rows;
+        this.types = new DataType.Name[types.size()];
+        for (int i = 0; i < this.types.length; i++) {
+            this.types[i] = types.get(i).getName();
+        }
+        this.decoded = new Object[rows.size()][];
+    }
+
+    @Override
+    public int size() {
+        return rows.size();
+    }
+
+    @Override
+    public synchronized List<List<Object>> getValues() {
+        if (values == null) {
+            values = new ArrayList<>(rows.size());
+            for (int r = 0; r < rows.size(); r++) {
+                List<Object> row = new ArrayList<>(types.length);
+                for (int c = 0; c < types.length; c++) {
+                    row.add(this.getObject(r, c));
+                }
+                values.add(row);
+            }
+        }
+        return values;
+    }
+
+    @Override
+    public Object getObject(int row, int column) {
+        Object[] cells = decoded[row];
+        if (cells == null) {
+            cells = new Object[types.length];
+            Arrays.fill(cells, NOT_DECODED);
+            decoded[row] = cells;
+        }
+        if (cells[column] == NOT_DECODED) {
+            cells[column] = rows.get(row).getObject(column);
+        }
+        return cells[column];
+    }
+
+    @Override
+    public boolean isNull(int row, int column) {
+        return rows.get(row).isNull(column);
+    }
+
+    @Override
+    public int getInt(int row, int column) {
+        if (types[column] == DataType.Name.INT) {
+            return rows.get(row).getInt(column);
+        }
+        return super.getInt(row, column);
+    }
+
+    @Override
+    public long getLong(int row, int column) {
+        switch (types[column]) {
+        case BIGINT:
+        case COUNTER:
+            return rows.get(row).getLong(column);
+        case INT:
+            return rows.get(row).getInt(column);
+        default:
+            return super.getLong(row, column);
+        }
+    }
+
+    @Override
+    public float getFloat(int row, int column) {
+        if (types[column] == DataType.Name.FLOAT) {
+            return rows.get(row).getFloat(column);
+        }
+        return super.getFloat(row, column);
+    }
+
+    @Override
+    public double getDouble(int row, int column) {
+        switch (types[column]) {
+        case DOUBLE:
+            return rows.get(row).getDouble(column);
+        case FLOAT:
+            return rows.get(row).getFloat(column);
+        case INT:
+            return rows.get(row).getInt(column);
+        default:
+            return super.getDouble(row, column);
+        }
+    }
+
+    @Override
+    public boolean getBoolean(int row, int column) {
+        if (types[column] == DataType.Name.BOOLEAN) {
+            return rows.get(row).getBool(column);
+        }
+        return super.getBoolean(row, column);
+    }
+
+    @Override
+    public <T> T get(int row, int column, Class<T> type) {
+        CodecRegistry codecs = this.getCodecs();
+        if (codecs instanceof CodecRegistryImpl && ((CodecRegistryImpl) codecs).supports(type)) {
+            // Codecs read the cell bytes, without the driver decoding them first
+            return codecs.get(rows.get(row), column, type);
+        }
+        return super.get(row, column, type);
+    }
+
+    @Override
+    protected ByteBuffer getBytes(int row, int column) {
+        switch (types[column]) {
+        case BLOB:
+        case TEXT:
+        case VARCHAR:
+        case ASCII:
+            // Blob and text cells are already in their wire format
+            return rows.get(row).getBytesUnsafe(column);
+        default:
+            return super.getBytes(row, column);
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.vertx.ext.cassandra.CacheStats;
+
+public class PreparedStatementCache {
+
+    private final int maxSize;
+    // Lookups take no lock: entries record when they were last used and the
+    // least recently used one is evicted approximately, on inserts only
+    private final ConcurrentMap<String, Entry> statements = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public PreparedStatementCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    public ListenableFuture<PreparedStatement> prepare(Session session, String query) {
+        Entry entry = statements.get(query);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry.touch();
+        }
+
+        // Concurrent first calls for the same query share the entry that
+        // wins the insert; the driver is only called once it is published
+        Entry created = new Entry();
+        entry = statements.putIfAbsent(query, created);
+        if (entry != null) {
+            hits.incrementAndGet();
+            return entry.touch();
+        }
+        misses.incrementAndGet();
+        this.evict();
+
+        Futures.addCallback(session.prepareAsync(query), new FutureCallback<PreparedStatement>() {
+
+            @Override
+            public void onSuccess(PreparedStatement statement) {
+                created.prepared.set(statement);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                // Do not keep failures around, so the next call tries again
+                statements.remove(query, created);
+                created.prepared.setException(t);
+            }
+        });
+        return created.prepared;
+    }
+
+    private void evict() {
+        while (statements.size() > maxSize) {
+            Map.Entry<String, Entry> eldest = null;
+            for (Map.Entry<String, Entry> candidate : statements.entrySet()) {
+                if (eldest == null || candidate.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (statements.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        statements.clear();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats().setHits(hits.get()).setMisses(misses.get()).setEvictions(evictions.get())
+                .setSize(statements.size());
+    }
+
+    private static final class Entry {
+
+        private final SettableFuture<PreparedStatement> prepared = SettableFuture.create();
+        private volatile long lastUsed = System.nanoTime();
+
+        private ListenableFuture<PreparedStatement> touch() {
+            lastUsed = System.nanoTime();
+            return prepared;
+        }
+    }
+
+}
@@ -1,20 +1,44 @@
 package io.vertx.ext.cassandra.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
+import com.datastax.driver.core.DataType;
 import com.datastax.driver.core.Row;
 
+import io.vertx.ext.cassandra.CodecRegistry;
 import io.vertx.ext.cassandra.ConsistencyLevel;
 import io.vertx.ext.cassandra.ExecutionInfo;
+import io.vertx.ext.cassandra.ResultMode;
 import io.vertx.ext.cassandra.ResultSet;
 
 public class QueryResultsCollector {
 
+    private final CodecRegistry codecs;
+
+    public QueryResultsCollector(CodecRegistry codecs) {
+        this.codecs = codecs;
+    }
+
+    public QueryResultsCollector() {
+        this(null);
+    }
+
     public ResultSet collectResults(com.datastax.driver.core.ResultSet cassandraResultSet) {
+        return this.collectResults(cassandraResultSet, ResultMode.ROWS);
+    }
+
+    public ResultSet collectResults(com.datastax.driver.core.ResultSet cassandraResultSet, ResultMode mode) {
+        if (mode == ResultMode.COLUMNAR) {
+            return this.collectColumns(cassandraResultSet);
+        } else if (mode == ResultMode.LAZY) {
+            return this.collectLazily(cassandraResultSet);
+        }
 
         List<String> names = this.getColumnNames(cassandraResultSet);
 
@@ -26,7 +50,93 @@ public class QueryResultsCollector {
 
         ExecutionInfo metaInformation = this.processExecutionInfo(cassandraResultSet);
 
-        return new ResultSet(names, values, metaInformation);
+        return new TypedResultSet(names, values, metaInformation, this.getColumnTypes(cassandraResultSet), codecs);
+    }
+
+    public CompletableFuture<ResultSet> collectResultsInParallel(
+            com.datastax.driver.core.ResultSet cassandraResultSet, ResultMode mode, ForkJoinPool pool) {
+
+        if (mode == ResultMode.LAZY) {
+            return CompletableFuture.completedFuture(this.collectResults(cassandraResultSet, mode));
+        }
+
+        List<String> names = this.getColumnNames(cassandraResultSet);
+        List<Row> rows = this.getAvailableRows(cassandraResultSet);
+        ExecutionInfo metaInformation = this.processExecutionInfo(cassandraResultSet);
+
+        int size = rows.size();
+        // Chunks are multiples of 64 rows so no two chunks share a word of the
+        // columnar null bitmaps
+        int chunk = ((size / pool.getParallelism() + 63) >>> 6) << 6;
+        chunk = Math.max(chunk, 64);
+
+        ResultSet result;
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        if (mode == ResultMode.COLUMNAR) {
+            ColumnarResultSet columns = new ColumnarResultSet(names, this.getColumnTypes(cassandraResultSet), size,
+                    metaInformation, codecs);
+            for (int from = 0; from < size; from += chunk) {
+                int start = from;
+                int end = Math.min(from + chunk, size);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = start; i < end; i++) {
+                        columns.fill(rows.get(i), i);
+                    }
+                }, pool));
+            }
+            result = columns;
+        } else {
+            List<Object>[] values = this.newRowArray(size);
+            for (int from = 0; from < size; from += chunk) {
+                int start = from;
+                int end = Math.min(from + chunk, size);
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    for (int i = start; i < end; i++) {
+                        values[i] = this.rowToArray(rows.get(i), names.size());
+                    }
+                }, pool));
+            }
+            result = new TypedResultSet(names, new ArrayList<>(Arrays.asList(values)), metaInformation,
+                    this.getColumnTypes(cassandraResultSet), codecs);
+        }
+
+        return CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[chunks.size()])).thenApply(v -> result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object>[] newRowArray(int size) {
+        return new List[size];
+    }
+
+    private ResultSet collectColumns(com.datastax.driver.core.ResultSet cassandraResultSet) {
+
+        List<String> names = this.getColumnNames(cassandraResultSet);
+        List<DataType> types = this.getColumnTypes(cassandraResultSet);
+
+        ColumnarResultSet result = new ColumnarResultSet(names, types,
+                cassandraResultSet.getAvailableWithoutFetching(), this.processExecutionInfo(cassandraResultSet),
+                codecs);
+
+        Iterator<Row> it = cassandraResultSet.iterator();
+        for (int i = 0; i < result.size(); i++) {
+            result.fill(it.next(), i);
+        }
+
+        return result;
+    }
+
+    private ResultSet collectLazily(com.datastax.driver.core.ResultSet cassandraResultSet) {
+        return new LazyResultSet(this.getColumnNames(cassandraResultSet), this.getColumnTypes(cassandraResultSet),
+                this.getAvailableRows(cassandraResultSet), this.processExecutionInfo(cassandraResultSet), codecs);
+    }
+
+    private List<Row> getAvailableRows(com.datastax.driver.core.ResultSet cassandraResultSet) {
+        List<Row> rows = new ArrayList<>(cassandraResultSet.getAvailableWithoutFetching());
+        Iterator<Row> it = cassandraResultSet.iterator();
+        while (cassandraResultSet.getAvailableWithoutFetching() > 0) {
+            rows.add(it.next());
+        }
+        return rows;
     }
 
     private List<String> getColumnNames(com.datastax.driver.core.ResultSet cassandraResultSet) {
@@ -34,7 +144,12 @@ public class QueryResultsCollector {
                 .collect(Collectors.toList());
     }
 
-    private List<Object> rowToArray(Row r, int size) {
+    private List<DataType> getColumnTypes(com.datastax.driver.core.ResultSet cassandraResultSet) {
+        return cassandraResultSet.getColumnDefinitions().asList().stream().map(d -> d.getType())
+                .collect(Collectors.toList());
+    }
+
+    public List<Object> rowToArray(Row r, int size) {
         List<Object> result = new ArrayList<>(size);
 
         for (int i = 0; i < size; i++)
@@ -48,13 +163,12 @@ public class QueryResultsCollector {
 
         com.datastax.driver.core.ExecutionInfo executionInfo = cassandraResultSet.getExecutionInfo();
 
-        // TODO: From java driver docs: "Please note that the writing of the
-        // trace is done asynchronously in Cassandra. So accessing the trace too
-        // soon after the query may result in the trace being incomplete."
-        //
-        // So maybe we should publish another method in the client to get
-        // information from a trace
-        result.setQueryTrace(Objects.toString(executionInfo.getQueryTrace(), null));
+        // Only the id: anything else on the driver's QueryTrace loads the
+        // trace with blocking queries. CassandraClient.fetchTrace reads it
+        // asynchronously once Cassandra has finished writing it
+        com.datastax.driver.core.QueryTrace queryTrace = executionInfo.getQueryTrace();
+        if (queryTrace != null)
+            result.setQueryTrace(queryTrace.getTraceId().toString());
 
         com.datastax.driver.core.ConsistencyLevel achievedConsistencyLevel = executionInfo
                 .getAchievedConsistencyLevel();
@@ -0,0 +1,277 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.datastax.driver.core.DataType;
+
+import io.vertx.ext.cassandra.CacheStats;
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionInfo;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.ResultMode;
+import io.vertx.ext.cassandra.ResultSet;
+
+public class ResultCache {
+
+    // Rough per cell and per entry overheads, only meant to keep the bound honest
+    private static final int CELL_OVERHEAD = 16;
+    private static final int ENTRY_OVERHEAD = 128;
+
+    private final long maxBytes;
+    private final CodecRegistry codecs;
+    // Reads take no lock: entries record when they were last used and the
+    // least recently used ones are evicted approximately, on inserts only
+    private final ConcurrentMap<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public ResultCache(long maxBytes, CodecRegistry codecs) {
+        this.maxBytes = maxBytes;
+        this.codecs = codecs;
+    }
+
+    public ResultCache(long maxBytes) {
+        this(maxBytes, null);
+    }
+
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    // Only first pages of fully decoded rows are cached: a later page depends
+    // on the paging state, and the columnar and lazy modes exist to avoid
+    // decoding every cell, which taking a snapshot would do
+    public static boolean isCacheable(String statement, ExecutionOptions options) {
+        if (options.getPagingState() != null
+                || (options.getResultMode() != null && options.getResultMode() != ResultMode.ROWS)) {
+            return false;
+        }
+        String query = skipComments(statement);
+        if (!query.regionMatches(true, 0, "select", 0, 6) || query.length() == 6
+                || !Character.isWhitespace(query.charAt(6))) {
+            return false;
+        }
+        // Results of these change on every execution
+        String lower = query.toLowerCase();
+        return !lower.contains("now(") && !lower.contains("uuid(");
+    }
+
+    private static String skipComments(String statement) {
+        String result = statement.trim();
+        while (true) {
+            if (result.startsWith("--") || result.startsWith("//")) {
+                int end = result.indexOf('\n');
+                result = end < 0 ? "" : result.substring(end + 1).trim();
+            } else if (result.startsWith("/*")) {
+                int end = result.indexOf("*/");
+                result = end < 0 ? "" : result.substring(end + 2).trim();
+            } else {
+                return result;
+            }
+        }
+    }
+
+    public ResultSet get(String statement, List<Object> parameters, ExecutionOptions options) {
+        Key key = new Key(statement, parameters, options);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+            hits.incrementAndGet();
+            entry.lastUsed = System.nanoTime();
+            return entry.copy();
+        }
+        if (entry != null) {
+            this.remove(key, entry);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    public void put(String statement, List<Object> parameters, ExecutionOptions options, ResultSet result,
+            long ttlMillis) {
+        if (result.getClass() != ResultSet.class) {
+            return;
+        }
+        long weight = ENTRY_OVERHEAD + statement.length() * 2 + weigh(parameters) + weigh(result.getValues());
+        if (weight > maxBytes) {
+            return;
+        }
+
+        // The parameters may be reused by the caller, so the key owns a copy
+        Key key = new Key(statement, new ArrayList<>(parameters), options);
+        Entry entry = new Entry(result, weight, System.nanoTime() + ttlMillis * 1000000);
+        Entry previous = entries.put(key, entry);
+        bytes.addAndGet(previous == null ? weight : weight - previous.weight);
+        this.evict();
+    }
+
+    private void evict() {
+        while (bytes.get() > maxBytes) {
+            Map.Entry<Key, Entry> eldest = null;
+            for (Map.Entry<Key, Entry> candidate : entries.entrySet()) {
+                if (eldest == null || candidate.getValue().lastUsed - eldest.getValue().lastUsed < 0) {
+                    eldest = candidate;
+                }
+            }
+            if (eldest == null) {
+                return;
+            }
+            if (this.remove(eldest.getKey(), eldest.getValue())) {
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private boolean remove(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            bytes.addAndGet(-entry.weight);
+            return true;
+        }
+        return false;
+    }
+
+    public void invalidate(String statement) {
+        entries.forEach((key, entry) -> {
+            if (key.statement.equals(statement)) {
+                this.remove(key, entry);
+            }
+        });
+    }
+
+    public void invalidateAll() {
+        entries.forEach(this::remove);
+    }
+
+    public long bytes() {
+        return bytes.get();
+    }
+
+    public CacheStats stats() {
+        return new CacheStats().setHits(hits.get()).setMisses(misses.get()).setEvictions(evictions.get())
+                .setSize(entries.size());
+    }
+
+    private static long weigh(Object value) {
+        if (value instanceof String) {
+            return CELL_OVERHEAD + ((String) value).length() * 2;
+        } else if (value instanceof ByteBuffer) {
+            return CELL_OVERHEAD + ((ByteBuffer) value).remaining();
+        } else if (value instanceof Collection) {
+            long weight = CELL_OVERHEAD;
+            for (Object element : (Collection<?>) value) {
+                weight += weigh(element);
+            }
+            return weight;
+        } else if (value instanceof Map) {
+            long weight = CELL_OVERHEAD;
+            for (Map.Entry<?, ?> element : ((Map<?, ?>) value).entrySet()) {
+                weight += weigh(element.getKey()) + weigh(element.getValue());
+            }
+            return weight;
+        }
+        return CELL_OVERHEAD;
+    }
+
+    private static final class Key {
+
+        private final String statement;
+        private final List<Object> parameters;
+        // The options that change which rows come back
+        private final int fetchSize;
+        private final ConsistencyLevel consistencyLevel;
+        private final int hash;
+
+        private Key(String statement, List<Object> parameters, ExecutionOptions options) {
+            this.statement = statement;
+            this.parameters = parameters;
+            this.fetchSize = options.getFetchSize();
+            this.consistencyLevel = options.getConsistencyLevel();
+            this.hash = 31 * (31 * (31 * statement.hashCode() + parameters.hashCode()) + fetchSize)
+                    + Objects.hashCode(consistencyLevel);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hash == other.hash && fetchSize == other.fetchSize && consistencyLevel == other.consistencyLevel
+                    && statement.equals(other.statement) && parameters.equals(other.parameters);
+        }
+    }
+
+    private final class Entry {
+
+        private final List<String> names;
+        private final List<DataType> types;
+        private final List<List<Object>> rows;
+        private final ExecutionInfo executionInfo;
+        private final long weight;
+        private final long expiresAt;
+        private volatile long lastUsed = System.nanoTime();
+
+        // Keeps its own rows, so the caller that filled the cache may go on
+        // using the result it got
+        private Entry(ResultSet result, long weight, long expiresAt) {
+            this.names = Collections.unmodifiableList(new ArrayList<>(result.getColumnNames()));
+            this.types = result instanceof TypedResultSet ? ((TypedResultSet) result).getColumnTypes() : null;
+            this.rows = new ArrayList<>(result.size());
+            for (List<Object> row : result.getValues()) {
+                rows.add(copy(row));
+            }
+            this.executionInfo = copy(result.getExecutionInfo());
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        // Every hit gets its own rows and execution info, as results are
+        // mutable and callers on other event loops may read them concurrently
+        private ResultSet copy() {
+            List<List<Object>> values = new ArrayList<>(rows.size());
+            for (List<Object> row : rows) {
+                values.add(copy(row));
+            }
+            if (types == null) {
+                return new ResultSet(names, values, copy(executionInfo));
+            }
+            return new TypedResultSet(names, values, copy(executionInfo), types, codecs);
+        }
+
+        private static List<Object> copy(List<Object> row) {
+            List<Object> result = new ArrayList<>(row.size());
+            for (Object value : row) {
+                // Reading a ByteBuffer moves its position
+                result.add(value instanceof ByteBuffer ? ((ByteBuffer) value).duplicate() : value);
+            }
+            return result;
+        }
+
+        private static ExecutionInfo copy(ExecutionInfo info) {
+            if (info == null) {
+                return null;
+            }
+            return new ExecutionInfo().setQueryTrace(info.getQueryTrace())
+                    .setAchievedConsistencyLevel(info.getAchievedConsistencyLevel())
+                    .setPagingState(info.getPagingState());
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.datastax.driver.core.Row;
+import com.google.common.util.concurrent.Futures;
+
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.streams.ReadStream;
+import io.vertx.ext.cassandra.impl.util.DelegateFutureCallback;
+import io.vertx.ext.cassandra.impl.util.VertxExecutor;
+
+public class RowStreamImpl<T> implements ReadStream<T> {
+
+    private final Context context;
+    private final Executor executor;
+    private final com.datastax.driver.core.ResultSet resultSet;
+    private final Function<Row, T> mapper;
+
+    // Fetch the next page once the current one drops below this number of rows
+    private final int prefetchThreshold;
+
+    private Handler<T> handler;
+    private Handler<Void> endHandler;
+    private Handler<Throwable> exceptionHandler;
+
+    private boolean paused;
+    private boolean fetching;
+    private boolean draining;
+    private boolean ended;
+
+    public RowStreamImpl(Context context, com.datastax.driver.core.ResultSet resultSet, Function<Row, T> mapper) {
+        this.context = context;
+        this.executor = new VertxExecutor(context);
+        this.resultSet = resultSet;
+        this.mapper = mapper;
+        this.prefetchThreshold = resultSet.getAvailableWithoutFetching() / 2;
+    }
+
+    @Override
+    public RowStreamImpl<T> exceptionHandler(Handler<Throwable> handler) {
+        this.exceptionHandler = handler;
+        return this;
+    }
+
+    @Override
+    public RowStreamImpl<T> handler(Handler<T> handler) {
+        this.handler = handler;
+        if (handler != null) {
+            this.scheduleDrain();
+        }
+        return this;
+    }
+
+    @Override
+    public RowStreamImpl<T> pause() {
+        paused = true;
+        return this;
+    }
+
+    @Override
+    public RowStreamImpl<T> resume() {
+        if (paused) {
+            paused = false;
+            this.scheduleDrain();
+        }
+        return this;
+    }
+
+    @Override
+    public RowStreamImpl<T> endHandler(Handler<Void> endHandler) {
+        this.endHandler = endHandler;
+        return this;
+    }
+
+    protected com.datastax.driver.core.ResultSet resultSet() {
+        return resultSet;
+    }
+
+    private void scheduleDrain() {
+        context.runOnContext(v -> this.drain());
+    }
+
+    private void drain() {
+        if (draining) {
+            return;
+        }
+        draining = true;
+        try {
+            while (!paused && !ended && handler != null) {
+                int available = resultSet.getAvailableWithoutFetching();
+                if (available <= prefetchThreshold) {
+                    this.fetchMore();
+                }
+                if (available == 0) {
+                    // Either the stream is over or the pending fetch will
+                    // resume draining; never let the driver block here
+                    if (resultSet.isFullyFetched()) {
+                        this.end();
+                    }
+                    return;
+                }
+                handler.handle(mapper.apply(resultSet.one()));
+            }
+        } catch (RuntimeException e) {
+            this.fail(e);
+        } finally {
+            draining = false;
+        }
+    }
+
+    private void fetchMore() {
+        if (fetching || resultSet.isFullyFetched()) {
+            return;
+        }
+        fetching = true;
+        Futures.addCallback(resultSet.fetchMoreResults(),
+                new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+                    fetching = false;
+                    if (ar.succeeded()) {
+                        this.drain();
+                    } else {
+                        this.fail(ar.cause());
+                    }
+                }), executor);
+    }
+
+    private void end() {
+        ended = true;
+        if (endHandler != null) {
+            endHandler.handle(null);
+        }
+    }
+
+    private void fail(Throwable t) {
+        if (ended) {
+            return;
+        }
+        ended = true;
+        if (exceptionHandler != null) {
+            exceptionHandler.handle(t);
+        }
+    }
+
+}
@@ -0,0 +1,140 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Host;
+
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ResultSet;
+import io.vertx.ext.cassandra.SlowQuery;
+
+public class SlowQueryLog {
+
+    private final long threshold;
+    private final Map<String, Long> thresholds;
+    private final AtomicReferenceArray<SlowQuery> records;
+    private final AtomicLong next = new AtomicLong();
+
+    // Thresholds are in milliseconds; a global threshold of 0 only logs the
+    // statements that have their own threshold
+    public SlowQueryLog(long threshold, Map<String, Long> thresholds, int capacity) {
+        this.threshold = TimeUnit.MILLISECONDS.toNanos(threshold);
+        this.thresholds = new HashMap<>();
+        thresholds.forEach((name, value) -> this.thresholds.put(name, TimeUnit.MILLISECONDS.toNanos(value)));
+        this.records = new AtomicReferenceArray<>(Math.max(capacity, 0));
+    }
+
+    public boolean isEnabled() {
+        return records.length() > 0 && (threshold > 0 || !thresholds.isEmpty());
+    }
+
+    public Probe probe(String name, String statement, int parameterCount, long start) {
+        if (!this.isEnabled()) {
+            return null;
+        }
+        Long limit = thresholds.get(name);
+        if (limit == null) {
+            limit = thresholds.get(statement);
+        }
+        if (limit == null && threshold <= 0) {
+            return null;
+        }
+        return new Probe(statement, parameterCount, start, limit == null ? threshold : limit);
+    }
+
+    private void record(SlowQuery query) {
+        // Writers never wait for each other or for readers; under heavy
+        // contention a slot may be overwritten before it is read
+        long index = next.getAndIncrement();
+        records.set((int) (index % records.length()), query);
+    }
+
+    // Oldest first
+    public List<SlowQuery> snapshot() {
+        int capacity = records.length();
+        if (capacity == 0) {
+            return Collections.emptyList();
+        }
+        long end = next.get();
+        long begin = Math.max(0, end - capacity);
+        List<SlowQuery> result = new ArrayList<>((int) (end - begin));
+        for (long i = begin; i < end; i++) {
+            SlowQuery query = records.get((int) (i % capacity));
+            if (query != null) {
+                result.add(query);
+            }
+        }
+        return result;
+    }
+
+    public class Probe {
+
+        private final String statement;
+        private final int parameterCount;
+        private final long start;
+        private final long limit;
+
+        private volatile ExecutionInfo executionInfo;
+        private volatile long decodeNanos;
+
+        private Probe(String statement, int parameterCount, long start, long limit) {
+            this.statement = statement;
+            this.parameterCount = parameterCount;
+            this.start = start;
+            this.limit = limit;
+        }
+
+        public void decoded(com.datastax.driver.core.ResultSet cassandraResultSet, long nanos) {
+            this.executionInfo = cassandraResultSet.getExecutionInfo();
+            this.decodeNanos = nanos;
+        }
+
+        public void completed(ResultSet result, Throwable failure) {
+            this.completed(result == null ? -1 : result.size(), failure);
+        }
+
+        // For results that are not a ResultSet, rows is negative when unknown
+        public void completed(int rows, Throwable failure) {
+            long latency = System.nanoTime() - start;
+            if (latency < limit) {
+                return;
+            }
+
+            SlowQuery query = new SlowQuery().setStatement(statement).setParameterCount(parameterCount)
+                    .setLatencyMicros(TimeUnit.NANOSECONDS.toMicros(latency))
+                    .setDecodeMicros(TimeUnit.NANOSECONDS.toMicros(decodeNanos))
+                    .setTimestamp(System.currentTimeMillis());
+            if (rows >= 0) {
+                query.setRows(rows);
+            }
+            if (failure != null) {
+                query.setError(String.valueOf(failure.getMessage()));
+            }
+
+            ExecutionInfo info = executionInfo;
+            if (info != null) {
+                Host coordinator = info.getQueriedHost();
+                if (coordinator != null) {
+                    query.setCoordinator(coordinator.getAddress().getHostAddress());
+                }
+                if (info.getAchievedConsistencyLevel() != null) {
+                    query.setAchievedConsistencyLevel(
+                            ConsistencyLevel.valueOf(info.getAchievedConsistencyLevel().name()));
+                }
+                // Every host tried beyond the first one was a retry or a
+                // speculative execution
+                query.setRetries(Math.max(0, info.getTriedHosts().size() - 1));
+            }
+            SlowQueryLog.this.record(query);
+        }
+    }
+
+}
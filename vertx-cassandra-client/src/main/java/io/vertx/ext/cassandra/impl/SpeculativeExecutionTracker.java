@@ -0,0 +1,112 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.ExecutionInfo;
+import com.datastax.driver.core.Host;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Sets;
+
+import io.vertx.core.json.JsonObject;
+
+public class SpeculativeExecutionTracker implements SpeculativeExecutionPolicy {
+
+    private final SpeculativeExecutionPolicy delegate;
+
+    private final LongAdder fired = new LongAdder();
+    private final LongAdder won = new LongAdder();
+
+    // Hosts queried by the speculative executions of each statement with one
+    // in flight; weak so a request the client never hears back about cannot leak
+    private final ConcurrentMap<Statement, Set<Host>> speculated = new MapMaker().weakKeys().makeMap();
+
+    // Statements whose request opted out of speculative execution, which is
+    // kept apart from idempotence as retries rely on that too
+    private final Set<Statement> excluded = Sets.newSetFromMap(new MapMaker().weakKeys().<Statement, Boolean> makeMap());
+
+    public SpeculativeExecutionTracker(SpeculativeExecutionPolicy delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void init(Cluster cluster) {
+        delegate.init(cluster);
+    }
+
+    @Override
+    public SpeculativeExecutionPlan newPlan(String loggedKeyspace, Statement statement) {
+        if (excluded.remove(statement)) {
+            return lastQueried -> -1;
+        }
+        SpeculativeExecutionPlan plan = delegate.newPlan(loggedKeyspace, statement);
+        AtomicInteger executions = new AtomicInteger();
+        return lastQueried -> {
+            // The driver asks for the next delay each time an execution starts,
+            // with the host that execution queried, so every call after the
+            // first one means a speculative execution was actually sent
+            if (executions.incrementAndGet() > 1) {
+                fired.increment();
+                Set<Host> hosts = speculated.get(statement);
+                if (hosts == null) {
+                    Set<Host> created = ConcurrentHashMap.newKeySet();
+                    hosts = speculated.putIfAbsent(statement, created);
+                    if (hosts == null) {
+                        hosts = created;
+                    }
+                }
+                if (lastQueried != null) {
+                    hosts.add(lastQueried);
+                }
+            }
+            return plan.nextExecution(lastQueried);
+        };
+    }
+
+    public void exclude(Statement statement) {
+        excluded.add(statement);
+    }
+
+    public void completed(Statement statement, ExecutionInfo info) {
+        Set<Host> hosts = speculated.remove(statement);
+        if (hosts == null || info == null) {
+            return;
+        }
+        // Only a response from a host a speculative execution was sent to
+        // counts: the initial execution may also move to other hosts when it
+        // is retried or fails over after an error
+        Host queried = info.getQueriedHost();
+        if (queried != null && hosts.contains(queried)
+                && (info.getTriedHosts().isEmpty() || !queried.equals(info.getTriedHosts().get(0)))) {
+            won.increment();
+        }
+    }
+
+    public void failed(Statement statement) {
+        speculated.remove(statement);
+    }
+
+    public long fired() {
+        return fired.sum();
+    }
+
+    public long won() {
+        return won.sum();
+    }
+
+    public JsonObject toJson() {
+        return new JsonObject().put("fired", this.fired()).put("won", this.won());
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+}
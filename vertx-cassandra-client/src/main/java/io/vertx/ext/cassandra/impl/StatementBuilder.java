@@ -0,0 +1,165 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.datastax.driver.core.BatchStatement;
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.PagingState;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+import com.datastax.driver.core.policies.DefaultRetryPolicy;
+import com.datastax.driver.core.policies.DowngradingConsistencyRetryPolicy;
+import com.datastax.driver.core.policies.FallthroughRetryPolicy;
+
+import io.vertx.ext.cassandra.BatchType;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.RetryPolicy;
+
+public class StatementBuilder {
+
+    private final CodecRegistryImpl codecs;
+
+    public StatementBuilder(CodecRegistryImpl codecs) {
+        this.codecs = codecs;
+    }
+
+    public StatementBuilder() {
+        this(new CodecRegistryImpl());
+    }
+
+    public Statement simple(String statement, List<Object> parameters) {
+        Object[] values = parameters.toArray();
+        for (int i = 0; i < values.length; i++) {
+            if (codecs.handles(values[i])) {
+                // Without metadata the bytes are sent as they are and
+                // Cassandra reads them as the type of the column
+                values[i] = codecs.serialize(values[i], null);
+            }
+        }
+        return new SimpleStatement(statement, values);
+    }
+
+    public Statement bind(PreparedStatement prepared, String statement, List<Object> parameters) {
+        Object[] values = parameters.toArray();
+        ByteBuffer[] encoded = this.encode(prepared.getVariables(), values);
+
+        BoundStatement result;
+        try {
+            result = prepared.bind(values);
+        } catch (InvalidTypeException | IllegalArgumentException e) {
+            if (encoded != null) {
+                // Without metadata a codec value would go as JSON text or raw
+                // bytes, which Cassandra may accept for the wrong column type
+                throw new InvalidTypeException("Invalid values for " + statement + ": " + e.getMessage());
+            }
+            // The values do not match the prepared metadata (i.e: a String
+            // for a blob column), so let Cassandra coerce them as it did
+            // before statements were prepared
+            return this.simple(statement, parameters);
+        }
+
+        if (encoded != null) {
+            for (int i = 0; i < encoded.length; i++) {
+                if (encoded[i] != null) {
+                    result.setBytesUnsafe(i, encoded[i]);
+                }
+            }
+        }
+        return result;
+    }
+
+    // Serializes the values a codec handles against the prepared metadata and
+    // clears them from the values the driver binds, or returns null if none
+    private ByteBuffer[] encode(ColumnDefinitions variables, Object[] values) {
+        ByteBuffer[] result = null;
+        for (int i = 0; i < values.length; i++) {
+            if (codecs.handles(values[i])) {
+                if (i >= variables.size()) {
+                    throw new InvalidTypeException("Too many values, the statement has " + variables.size()
+                            + " bind variables");
+                }
+                if (result == null) {
+                    result = new ByteBuffer[values.length];
+                }
+                DataType cqlType = variables.getType(i);
+                try {
+                    result[i] = codecs.serialize(values[i], cqlType);
+                } catch (RuntimeException e) {
+                    throw new InvalidTypeException("Cannot bind a " + values[i].getClass().getName() + " to "
+                            + variables.getName(i) + " (" + cqlType + "): " + e.getMessage());
+                }
+                values[i] = null;
+            }
+        }
+        return result;
+    }
+
+    public BatchStatement batch(BatchType type, List<Statement> statements) {
+        BatchStatement result = new BatchStatement(BatchStatement.Type.valueOf(type.name()));
+        for (Statement statement : statements) {
+            result.add(statement);
+        }
+        return result;
+    }
+
+    public <S extends Statement> S applyOptions(S result, ExecutionOptions options) {
+
+        if (options == null) {
+            return result;
+        }
+
+        if (options.isTracing() || this.sampled(options.getTracingSampleRate()))
+            result.enableTracing();
+        else
+            result.disableTracing();
+
+        if (options.getConsistencyLevel() != null)
+            result.setConsistencyLevel(
+                    com.datastax.driver.core.ConsistencyLevel.valueOf(options.getConsistencyLevel().name()));
+
+        if (options.getTimestamp() != null)
+            result.setDefaultTimestamp(options.getTimestamp());
+
+        result.setFetchSize(options.getFetchSize());
+        // The per request speculative execution opt out is applied by the
+        // client when it sends the statement
+        result.setIdempotent(options.isIdempotent());
+
+        // Batches are never paged, and the driver refuses a paging state on them
+        if (options.getPagingState() != null && !(result instanceof BatchStatement))
+            result.setPagingState(PagingState.fromString(options.getPagingState()));
+
+        if (options.getRetryPolicy() != null)
+            result.setRetryPolicy(this.mapRetryPolicyToCassandraClass(options.getRetryPolicy()));
+
+        if (options.getSerialConsistencyLevel() != null)
+            result.setSerialConsistencyLevel(
+                    com.datastax.driver.core.ConsistencyLevel.valueOf(options.getSerialConsistencyLevel().name()));
+
+        return result;
+    }
+
+    private boolean sampled(double rate) {
+        return rate > 0 && ThreadLocalRandom.current().nextDouble() < rate;
+    }
+
+    private com.datastax.driver.core.policies.RetryPolicy mapRetryPolicyToCassandraClass(RetryPolicy retryPolicy) {
+        switch (retryPolicy) {
+        case DEFAULT:
+            return DefaultRetryPolicy.INSTANCE;
+        case DOWNGRADING:
+            return DowngradingConsistencyRetryPolicy.INSTANCE;
+        case FALLTHROUGH:
+            return FallthroughRetryPolicy.INSTANCE;
+        default:
+            throw new IllegalArgumentException("Unknown RetryPolicy: " + retryPolicy);
+        }
+    }
+
+}
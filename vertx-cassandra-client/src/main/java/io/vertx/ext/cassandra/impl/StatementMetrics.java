@@ -0,0 +1,38 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.json.JsonObject;
+
+public class StatementMetrics {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LatencyHistogram decodeTime = new LatencyHistogram();
+
+    public void executed(long latencyNanos, boolean failed) {
+        count.increment();
+        if (failed) {
+            errors.increment();
+        }
+        latency.record(latencyNanos);
+    }
+
+    public void decoded(int decodedRows, long decodeNanos) {
+        rows.add(decodedRows);
+        decodeTime.record(decodeNanos);
+    }
+
+    public JsonObject toJson() {
+        JsonObject result = new JsonObject();
+        result.put("count", count.sum());
+        result.put("errors", errors.sum());
+        result.put("rows", rows.sum());
+        result.put("latency", latency.toJson());
+        result.put("decodeTime", decodeTime.toJson());
+        return result;
+    }
+
+}
@@ -0,0 +1,117 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.datastax.driver.core.utils.UUIDs;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraClient;
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.QueryTrace;
+import io.vertx.ext.cassandra.ResultSet;
+import io.vertx.ext.cassandra.TraceEvent;
+
+public class TraceFetcher {
+
+    // Same schedule as the driver's own QueryTrace: 3, 6, 12, 24 and 48 ms
+    private static final int MAX_ATTEMPTS = 5;
+    private static final long BASE_DELAY = 3;
+
+    private static final String SELECT_SESSION = "select request, coordinator, duration, parameters, started_at "
+            + "from system_traces.sessions where session_id = ?";
+    private static final String SELECT_EVENTS = "select event_id, activity, source, source_elapsed, thread "
+            + "from system_traces.events where session_id = ?";
+
+    private final Vertx vertx;
+    private final CassandraClient client;
+    private final ExecutionOptions options = new ExecutionOptions().setConsistencyLevel(ConsistencyLevel.ONE)
+            .setQueryName("system_traces");
+
+    public TraceFetcher(Vertx vertx, CassandraClient client) {
+        this.vertx = vertx;
+        this.client = client;
+    }
+
+    public void fetch(String traceId, Handler<AsyncResult<QueryTrace>> resultHandler) {
+        UUID id;
+        try {
+            id = UUID.fromString(traceId);
+        } catch (IllegalArgumentException e) {
+            resultHandler.handle(Future.failedFuture(e));
+            return;
+        }
+        this.fetchSession(id, 0, resultHandler);
+    }
+
+    private void fetchSession(UUID id, int attempt, Handler<AsyncResult<QueryTrace>> resultHandler) {
+        client.executeWithOptions(SELECT_SESSION, Arrays.asList(id), options, ar -> {
+            if (ar.failed()) {
+                resultHandler.handle(Future.failedFuture(ar.cause()));
+                return;
+            }
+
+            ResultSet session = ar.result();
+            // Cassandra writes the duration last, so without it the trace is
+            // still being written
+            if (session.size() == 0 || session.isNull(0, 2)) {
+                if (attempt + 1 >= MAX_ATTEMPTS) {
+                    resultHandler.handle(Future.failedFuture(new IllegalStateException(
+                            "Trace " + id + " is not complete after " + MAX_ATTEMPTS + " attempts")));
+                } else {
+                    vertx.setTimer(BASE_DELAY << attempt, t -> this.fetchSession(id, attempt + 1, resultHandler));
+                }
+                return;
+            }
+
+            QueryTrace trace = new QueryTrace().setTraceId(id.toString()).setRequestType(session.getString(0, 0))
+                    .setCoordinator(this.toString(session.getObject(0, 1))).setDurationMicros(session.getInt(0, 2));
+            Map<?, ?> parameters = (Map<?, ?>) session.getObject(0, 3);
+            if (parameters != null) {
+                JsonObject json = new JsonObject();
+                parameters.forEach((k, v) -> json.put((String) k, (String) v));
+                trace.setParameters(json);
+            }
+            Date startedAt = (Date) session.getObject(0, 4);
+            if (startedAt != null) {
+                trace.setStartedAt(startedAt.getTime());
+            }
+
+            this.fetchEvents(id, trace, resultHandler);
+        });
+    }
+
+    private void fetchEvents(UUID id, QueryTrace trace, Handler<AsyncResult<QueryTrace>> resultHandler) {
+        client.executeWithOptions(SELECT_EVENTS, Arrays.asList(id), options, ar -> {
+            if (ar.failed()) {
+                resultHandler.handle(Future.failedFuture(ar.cause()));
+                return;
+            }
+
+            ResultSet events = ar.result();
+            List<TraceEvent> result = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                result.add(new TraceEvent().setTimestamp(UUIDs.unixTimestamp((UUID) events.getObject(i, 0)))
+                        .setDescription(events.getString(i, 1)).setSource(this.toString(events.getObject(i, 2)))
+                        .setSourceElapsedMicros(events.getInt(i, 3)).setThread(events.getString(i, 4)));
+            }
+            trace.setEvents(result);
+            resultHandler.handle(Future.succeededFuture(trace));
+        });
+    }
+
+    private String toString(Object address) {
+        return address == null ? null : ((InetAddress) address).getHostAddress();
+    }
+
+}
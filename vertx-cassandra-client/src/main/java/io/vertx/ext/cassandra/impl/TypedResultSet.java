@@ -0,0 +1,46 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.List;
+
+import com.datastax.driver.core.DataType;
+
+import io.vertx.ext.cassandra.CodecRegistry;
+import io.vertx.ext.cassandra.ExecutionInfo;
+import io.vertx.ext.cassandra.ResultSet;
+
+// Results collected by the client know the CQL type of their columns, so
+// cells can be read with the registered codecs
+public class TypedResultSet extends ResultSet {
+
+    private final List<DataType> types;
+    private final CodecRegistry codecs;
+
+    public TypedResultSet(List<String> names, List<List<Object>> values, ExecutionInfo metaInformation,
+            List<DataType> types, CodecRegistry codecs) {
+        super(names, values, metaInformation);
+        this.types = types;
+        this.codecs = codecs;
+    }
+
+    protected TypedResultSet(List<String> names, ExecutionInfo metaInformation, List<DataType> types,
+            CodecRegistry codecs) {
+        this(names, null, metaInformation, types, codecs);
+    }
+
+    public List<DataType> getColumnTypes() {
+        return types;
+    }
+
+    protected CodecRegistry getCodecs() {
+        return codecs;
+    }
+
+    @Override
+    protected <T> T convert(Object value, int column, Class<T> type) {
+        if (codecs == null) {
+            return super.convert(value, column, type);
+        }
+        return codecs.convert(value, types.get(column), type);
+    }
+
+}
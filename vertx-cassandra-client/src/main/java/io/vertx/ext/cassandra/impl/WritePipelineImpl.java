@@ -0,0 +1,316 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.ColumnDefinitions;
+import com.datastax.driver.core.ColumnMetadata;
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.KeyspaceMetadata;
+import com.datastax.driver.core.Metadata;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.TableMetadata;
+import com.google.common.util.concurrent.AsyncFunction;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.ext.cassandra.BatchType;
+import io.vertx.ext.cassandra.CassandraWritePipeline;
+import io.vertx.ext.cassandra.WritePipelineOptions;
+import io.vertx.ext.cassandra.impl.util.DelegateFutureCallback;
+import io.vertx.ext.cassandra.impl.util.VertxExecutor;
+
+public class WritePipelineImpl implements CassandraWritePipeline {
+
+    private final Context context;
+    private final Executor executor;
+    private final CassandraClientImpl client;
+    private final CassandraHandle handle;
+    private final StatementBuilder statementBuilder;
+    private final WritePipelineOptions options;
+
+    private final Map<PartitionKey, List<PendingWrite>> groups = new HashMap<>();
+    private long timerId = -1;
+    private boolean closed;
+
+    public WritePipelineImpl(Context context, CassandraClientImpl client, CassandraHandle handle,
+            StatementBuilder statementBuilder, WritePipelineOptions options) {
+        this.context = context;
+        this.executor = new VertxExecutor(context);
+        this.client = client;
+        this.handle = handle;
+        this.statementBuilder = statementBuilder;
+        this.options = new WritePipelineOptions(options);
+    }
+
+    @Override
+    public CassandraWritePipeline write(String statement, List<Object> parameters,
+            Handler<AsyncResult<Void>> resultHandler) {
+
+        if (closed) {
+            resultHandler.handle(Future.failedFuture(new IllegalStateException("The write pipeline is closed")));
+            return this;
+        }
+
+        PreparedStatementCache preparedStatements = handle.preparedStatements();
+
+        if (parameters.isEmpty() || !preparedStatements.isEnabled()) {
+            // Without bound values there is no routing key to group by
+            this.send(new PendingWrite(statement, statementBuilder.simple(statement, parameters),
+                    parameters.size(), resultHandler));
+            return this;
+        }
+
+        ListenableFuture<PreparedStatement> prepared = Futures.transform(handle.session(),
+                (AsyncFunction<Session, PreparedStatement>) session -> preparedStatements.prepare(session, statement));
+        Futures.addCallback(prepared, new DelegateFutureCallback<PreparedStatement>(ar -> {
+            if (ar.succeeded()) {
+                Statement bound;
+                try {
+                    bound = statementBuilder.bind(ar.result(), statement, parameters);
+                } catch (RuntimeException e) {
+                    resultHandler.handle(Future.failedFuture(e));
+                    return;
+                }
+                this.enqueue(new PendingWrite(statement, bound, parameters.size(), resultHandler));
+            } else {
+                resultHandler.handle(Future.failedFuture(ar.cause()));
+            }
+        }), executor);
+        return this;
+    }
+
+    private void enqueue(PendingWrite write) {
+        if (!(write.statement instanceof BoundStatement) || closed) {
+            this.send(write);
+            return;
+        }
+
+        BoundStatement bound = (BoundStatement) write.statement;
+        ByteBuffer routingKey = bound.getRoutingKey();
+        if (routingKey == null) {
+            this.send(write);
+            return;
+        }
+
+        ColumnDefinitions variables = bound.preparedStatement().getVariables();
+        TableMetadata table = this.tableMetadata(variables.getKeyspace(0), variables.getTable(0));
+        PartitionKey key = new PartitionKey(variables.getKeyspace(0), variables.getTable(0), routingKey,
+                this.isCounter(variables, table));
+        List<ByteBuffer> row = this.rowKey(bound, variables, table);
+
+        Group group = groups.get(key);
+        if (group != null && (row == null || !group.rows.add(row))) {
+            // Writes in a batch share one timestamp and Cassandra settles ties
+            // by value, so a later write to the same row could lose to an
+            // earlier one. What came before goes out first
+            groups.remove(key);
+            this.send(key, group);
+            group = null;
+        }
+        if (row == null) {
+            // Without the primary key values there is no telling which row
+            // this writes, so it is never batched
+            this.send(write);
+            return;
+        }
+        if (group == null) {
+            group = new Group();
+            group.rows.add(row);
+            groups.put(key, group);
+        }
+        group.writes.add(write);
+
+        if (group.writes.size() >= options.getMaxBatchSize()) {
+            groups.remove(key);
+            this.send(key, group);
+        } else if (timerId == -1) {
+            timerId = context.owner().setTimer(options.getWindow(), id -> {
+                timerId = -1;
+                this.flush();
+            });
+        }
+    }
+
+    private TableMetadata tableMetadata(String keyspace, String table) {
+        Session session = handle.connectedSession();
+        if (session == null) {
+            return null;
+        }
+        KeyspaceMetadata keyspaceMetadata = session.getCluster().getMetadata().getKeyspace(Metadata.quote(keyspace));
+        return keyspaceMetadata == null ? null : keyspaceMetadata.getTable(Metadata.quote(table));
+    }
+
+    // Counter tables only hold counters besides their primary key, and
+    // Cassandra only accepts their updates in counter batches
+    private boolean isCounter(ColumnDefinitions variables, TableMetadata table) {
+        if (table != null) {
+            for (ColumnMetadata column : table.getColumns()) {
+                if (column.getType().getName() == DataType.Name.COUNTER) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        for (int i = 0; i < variables.size(); i++) {
+            if (variables.getType(i).getName() == DataType.Name.COUNTER) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // The bound values of the whole primary key, or null when some of it is
+    // not a bind marker
+    private List<ByteBuffer> rowKey(BoundStatement bound, ColumnDefinitions variables, TableMetadata table) {
+        if (table == null) {
+            return null;
+        }
+        List<ByteBuffer> result = new ArrayList<>();
+        for (ColumnMetadata column : table.getPrimaryKey()) {
+            String name = Metadata.quote(column.getName());
+            if (!variables.contains(name)) {
+                return null;
+            }
+            ByteBuffer value = bound.getBytesUnsafe(variables.getIndexOf(name));
+            result.add(value == null ? null : value.duplicate());
+        }
+        return result;
+    }
+
+    @Override
+    public CassandraWritePipeline flush() {
+        if (timerId != -1) {
+            context.owner().cancelTimer(timerId);
+            timerId = -1;
+        }
+        Map<PartitionKey, Group> pending = new HashMap<>(groups);
+        groups.clear();
+        pending.forEach(this::send);
+        return this;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        this.flush();
+    }
+
+    private void send(PendingWrite write) {
+        this.execute(write.statement, write.name, write.name, write.parameterCount, write.resultHandler);
+    }
+
+    private void send(PartitionKey key, Group group) {
+        if (group.writes.size() == 1) {
+            this.send(group.writes.get(0));
+            return;
+        }
+
+        // Every statement in the group targets the same partition, which is
+        // the only case where an unlogged batch is cheaper than single writes
+        BatchType type = key.counter ? BatchType.COUNTER : BatchType.UNLOGGED;
+        List<Statement> statements = new ArrayList<>(group.writes.size());
+        int parameterCount = 0;
+        for (PendingWrite write : group.writes) {
+            statements.add(write.statement);
+            parameterCount += write.parameterCount;
+        }
+        String name = "BATCH " + type.name();
+        this.execute(statementBuilder.batch(type, statements), name,
+                name + " (" + group.writes.size() + " statements)", parameterCount, result -> {
+            group.writes.forEach(w -> w.resultHandler.handle(result));
+        });
+    }
+
+    private void execute(Statement statement, String name, String text, int parameterCount,
+            Handler<AsyncResult<Void>> resultHandler) {
+        ClientMetrics metrics = handle.metrics();
+        StatementMetrics statementMetrics = metrics.statement(name);
+        long start = metrics.started();
+        SlowQueryLog.Probe probe = handle.slowQueries().probe(name, text, parameterCount, start);
+
+        ListenableFuture<com.datastax.driver.core.ResultSet> result = client.send(context, statement);
+        Futures.addCallback(result,
+                new DelegateFutureCallback<com.datastax.driver.core.ResultSet>(ar -> {
+                    metrics.completed(statementMetrics, start, ar.failed());
+                    if (probe != null) {
+                        if (ar.succeeded()) {
+                            probe.decoded(ar.result(), 0);
+                        }
+                        probe.completed(-1, ar.cause());
+                    }
+                    if (ar.succeeded()) {
+                        resultHandler.handle(Future.succeededFuture());
+                    } else {
+                        resultHandler.handle(Future.failedFuture(ar.cause()));
+                    }
+                }), executor);
+    }
+
+    private static final class Group {
+
+        private final List<PendingWrite> writes = new ArrayList<>();
+        private final Set<List<ByteBuffer>> rows = new HashSet<>();
+    }
+
+    private static final class PendingWrite {
+
+        private final String name;
+        private final Statement statement;
+        private final int parameterCount;
+        private final Handler<AsyncResult<Void>> resultHandler;
+
+        private PendingWrite(String name, Statement statement, int parameterCount,
+                Handler<AsyncResult<Void>> resultHandler) {
+            this.name = name;
+            this.statement = statement;
+            this.parameterCount = parameterCount;
+            this.resultHandler = resultHandler;
+        }
+    }
+
+    private static final class PartitionKey {
+
+        private final String keyspace;
+        private final String table;
+        private final ByteBuffer routingKey;
+        private final boolean counter;
+
+        private PartitionKey(String keyspace, String table, ByteBuffer routingKey, boolean counter) {
+            this.keyspace = keyspace;
+            this.table = table;
+            this.routingKey = routingKey.duplicate();
+            this.counter = counter;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyspace, table, routingKey, counter);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof PartitionKey)) {
+                return false;
+            }
+            PartitionKey other = (PartitionKey) obj;
+            return Objects.equals(keyspace, other.keyspace) && Objects.equals(table, other.table)
+                    && routingKey.equals(other.routingKey) && counter == other.counter;
+        }
+    }
+
+}
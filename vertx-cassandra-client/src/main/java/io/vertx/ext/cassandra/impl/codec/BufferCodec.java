@@ -0,0 +1,37 @@
+package io.vertx.ext.cassandra.impl.codec;
+
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import io.netty.buffer.Unpooled;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.ext.cassandra.TypeCodec;
+
+public class BufferCodec implements TypeCodec<Buffer> {
+
+    @Override
+    public Class<Buffer> getJavaType() {
+        return Buffer.class;
+    }
+
+    @Override
+    public boolean accepts(DataType cqlType) {
+        // Text columns hold raw UTF-8, so a Buffer of text is stored as is
+        return cqlType.getName() == DataType.Name.BLOB || JsonCodec.isText(cqlType);
+    }
+
+    @Override
+    public ByteBuffer serialize(Buffer value, DataType cqlType, ProtocolVersion protocolVersion) {
+        // Shares the Buffer memory for the common single-chunk case
+        return value.getByteBuf().nioBuffer();
+    }
+
+    @Override
+    public Buffer deserialize(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+        // Wrapping shares the driver's bytes, no copy is made
+        return Buffer.buffer(Unpooled.wrappedBuffer(bytes));
+    }
+
+}
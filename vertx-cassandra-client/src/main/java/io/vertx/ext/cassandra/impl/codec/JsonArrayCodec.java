@@ -0,0 +1,51 @@
+package io.vertx.ext.cassandra.impl.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import io.vertx.core.json.JsonArray;
+
+public class JsonArrayCodec extends JsonCodec<JsonArray> {
+
+    @Override
+    public Class<JsonArray> getJavaType() {
+        return JsonArray.class;
+    }
+
+    @Override
+    protected Class<?> jsonType() {
+        return List.class;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    protected JsonArray fromJson(Object decoded) {
+        return new JsonArray(decoded instanceof List ? (List) decoded : new ArrayList<>((Collection<?>) decoded));
+    }
+
+    @Override
+    protected boolean acceptsCollection(DataType cqlType) {
+        DataType.Name name = cqlType.getName();
+        return (name == DataType.Name.LIST || name == DataType.Name.SET)
+                && isJsonNative(cqlType.getTypeArguments().get(0));
+    }
+
+    @Override
+    protected ByteBuffer serializeCollection(JsonArray value, DataType cqlType, ProtocolVersion protocolVersion) {
+        List<?> elements = value.getList();
+        return cqlType.serialize(cqlType.getName() == DataType.Name.SET ? new LinkedHashSet<>(elements) : elements,
+                protocolVersion);
+    }
+
+    @Override
+    protected JsonArray deserializeCollection(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+        return this.fromJson(cqlType.deserialize(bytes, protocolVersion));
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.vertx.ext.cassandra.impl.codec;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.exceptions.InvalidTypeException;
+
+import io.vertx.core.json.Json;
+import io.vertx.ext.cassandra.TypeCodec;
+
+// Stores JSON values as UTF-8 text, written and parsed by Jackson straight
+// from bytes, or as the CQL collection their structure maps to
+public abstract class JsonCodec<T> implements TypeCodec<T> {
+
+    @Override
+    public boolean accepts(DataType cqlType) {
+        return isText(cqlType) || this.acceptsCollection(cqlType);
+    }
+
+    @Override
+    public ByteBuffer serialize(T value, DataType cqlType, ProtocolVersion protocolVersion) {
+        if (cqlType == null || isText(cqlType)) {
+            try {
+                return ByteBuffer.wrap(Json.mapper.writeValueAsBytes(value));
+            } catch (IOException e) {
+                throw new InvalidTypeException("Could not encode " + this.getJavaType().getSimpleName() + ": "
+                        + e.getMessage());
+            }
+        }
+        return this.serializeCollection(value, cqlType, protocolVersion);
+    }
+
+    @Override
+    public T deserialize(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+        if (isText(cqlType)) {
+            try {
+                if (bytes.hasArray()) {
+                    return this.fromJson(Json.mapper.readValue(bytes.array(), bytes.arrayOffset() + bytes.position(),
+                            bytes.remaining(), this.jsonType()));
+                }
+                byte[] copy = new byte[bytes.remaining()];
+                bytes.duplicate().get(copy);
+                return this.fromJson(Json.mapper.readValue(copy, this.jsonType()));
+            } catch (IOException e) {
+                throw new InvalidTypeException("Column does not hold a valid " + this.getJavaType().getSimpleName()
+                        + ": " + e.getMessage());
+            }
+        }
+        return this.deserializeCollection(bytes, cqlType, protocolVersion);
+    }
+
+    protected abstract Class<?> jsonType();
+
+    protected abstract T fromJson(Object decoded);
+
+    protected abstract boolean acceptsCollection(DataType cqlType);
+
+    protected abstract ByteBuffer serializeCollection(T value, DataType cqlType, ProtocolVersion protocolVersion);
+
+    protected abstract T deserializeCollection(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion);
+
+    static boolean isText(DataType cqlType) {
+        switch (cqlType.getName()) {
+        case ASCII:
+        case TEXT:
+        case VARCHAR:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+    // Collection elements that JsonObject and JsonArray hold without conversion
+    static boolean isJsonNative(DataType cqlType) {
+        switch (cqlType.getName()) {
+        case ASCII:
+        case TEXT:
+        case VARCHAR:
+        case INT:
+        case BIGINT:
+        case COUNTER:
+        case DOUBLE:
+        case FLOAT:
+        case BOOLEAN:
+            return true;
+        default:
+            return false;
+        }
+    }
+
+}
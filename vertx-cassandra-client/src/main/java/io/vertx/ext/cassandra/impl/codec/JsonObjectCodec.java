@@ -0,0 +1,46 @@
+package io.vertx.ext.cassandra.impl.codec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import io.vertx.core.json.JsonObject;
+
+public class JsonObjectCodec extends JsonCodec<JsonObject> {
+
+    @Override
+    public Class<JsonObject> getJavaType() {
+        return JsonObject.class;
+    }
+
+    @Override
+    protected Class<?> jsonType() {
+        return Map.class;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected JsonObject fromJson(Object decoded) {
+        return new JsonObject((Map<String, Object>) decoded);
+    }
+
+    @Override
+    protected boolean acceptsCollection(DataType cqlType) {
+        List<DataType> arguments = cqlType.getTypeArguments();
+        return cqlType.getName() == DataType.Name.MAP && isText(arguments.get(0)) && isJsonNative(arguments.get(1));
+    }
+
+    @Override
+    protected ByteBuffer serializeCollection(JsonObject value, DataType cqlType, ProtocolVersion protocolVersion) {
+        return cqlType.serialize(value.getMap(), protocolVersion);
+    }
+
+    @Override
+    protected JsonObject deserializeCollection(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+        return this.fromJson(cqlType.deserialize(bytes, protocolVersion));
+    }
+
+}
@@ -0,0 +1,48 @@
+package io.vertx.ext.cassandra.impl.codec;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongFunction;
+import java.util.function.ToLongFunction;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+
+import io.vertx.ext.cassandra.TypeCodec;
+
+// A timestamp is eight bytes of milliseconds since the epoch, so java.time
+// values are converted to and from them without going through a Date
+public class TimestampCodec<T> implements TypeCodec<T> {
+
+    private final Class<T> javaType;
+    private final ToLongFunction<T> toMillis;
+    private final LongFunction<T> fromMillis;
+
+    public TimestampCodec(Class<T> javaType, ToLongFunction<T> toMillis, LongFunction<T> fromMillis) {
+        this.javaType = javaType;
+        this.toMillis = toMillis;
+        this.fromMillis = fromMillis;
+    }
+
+    @Override
+    public Class<T> getJavaType() {
+        return javaType;
+    }
+
+    @Override
+    public boolean accepts(DataType cqlType) {
+        return cqlType.getName() == DataType.Name.TIMESTAMP;
+    }
+
+    @Override
+    public ByteBuffer serialize(T value, DataType cqlType, ProtocolVersion protocolVersion) {
+        ByteBuffer result = ByteBuffer.allocate(8);
+        result.putLong(0, toMillis.applyAsLong(value));
+        return result;
+    }
+
+    @Override
+    public T deserialize(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+        return fromMillis.apply(bytes.getLong(bytes.position()));
+    }
+
+}
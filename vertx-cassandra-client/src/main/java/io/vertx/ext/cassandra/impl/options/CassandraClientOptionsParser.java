@@ -0,0 +1,232 @@
+package io.vertx.ext.cassandra.impl.options;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.TypeCodec;
+import io.vertx.ext.cassandra.impl.ConcurrencyLimiter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class CassandraClientOptionsParser {
+
+    public static final int DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 1000;
+    public static final int DEFAULT_METRICS_MAX_STATEMENTS = 100;
+    public static final long DEFAULT_METRICS_PUBLISH_PERIOD = 10000;
+    public static final long DEFAULT_RESULT_CACHE_MAX_BYTES = 0;
+    public static final int DEFAULT_CONCURRENCY_INITIAL_LIMIT = 64;
+    public static final int DEFAULT_CONCURRENCY_MIN_LIMIT = 8;
+    public static final int DEFAULT_CONCURRENCY_MAX_LIMIT = 1024;
+    public static final int DEFAULT_CONCURRENCY_MAX_QUEUE = 10000;
+    public static final long DEFAULT_WARM_UP_TIMEOUT = 10000;
+    public static final int DEFAULT_SLOW_QUERY_CAPACITY = 256;
+
+    private int preparedStatementCacheSize;
+    private long resultCacheMaxBytes;
+
+    private boolean metricsEnabled;
+    private int metricsMaxStatements;
+    private String metricsPublishAddress;
+    private long metricsPublishPeriod;
+
+    private boolean concurrencyLimitEnabled;
+    private ConcurrencyLimiter.Algorithm concurrencyAlgorithm;
+    private int concurrencyInitialLimit;
+    private int concurrencyMinLimit;
+    private int concurrencyMaxLimit;
+    private int concurrencyMaxQueue;
+    private double concurrencyBackoffRatio;
+    private long concurrencyLatencyThreshold;
+    private double concurrencySmoothing;
+
+    private long slowQueryThreshold;
+    private Map<String, Long> slowQueryThresholds;
+    private int slowQueryCapacity;
+
+    private List<String> warmUpStatements;
+    private int warmUpConnections;
+    private long warmUpTimeout;
+
+    private List<TypeCodec<?>> codecs;
+
+    public CassandraClientOptionsParser(JsonObject config) {
+        Objects.requireNonNull(config, "Cassandra configuration cannot be null");
+
+        preparedStatementCacheSize = config.getInteger("prepared_statement_cache_size",
+                DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+        resultCacheMaxBytes = config.getJsonObject("result_cache", new JsonObject()).getLong("max_bytes",
+                DEFAULT_RESULT_CACHE_MAX_BYTES);
+
+        this.parseMetrics(config);
+        this.parseConcurrencyLimit(config);
+        this.parseWarmUp(config);
+        this.parseSlowQueryLog(config);
+        this.parseCodecs(config);
+    }
+
+    private void parseMetrics(JsonObject config) {
+        JsonObject metrics = config.getJsonObject("metrics", new JsonObject());
+
+        metricsEnabled = metrics.getBoolean("enabled", true);
+        metricsMaxStatements = metrics.getInteger("max_statements", DEFAULT_METRICS_MAX_STATEMENTS);
+        metricsPublishAddress = metrics.getString("publish_address");
+        metricsPublishPeriod = metrics.getLong("publish_period", DEFAULT_METRICS_PUBLISH_PERIOD);
+    }
+
+    private void parseConcurrencyLimit(JsonObject config) {
+        JsonObject limit = config.getJsonObject("concurrency_limit");
+        concurrencyLimitEnabled = limit != null && limit.getBoolean("enabled", true);
+        if (limit == null) {
+            limit = new JsonObject();
+        }
+
+        concurrencyAlgorithm = ConcurrencyLimiter.Algorithm
+                .valueOf(limit.getString("algorithm", "gradient").toUpperCase());
+        concurrencyInitialLimit = limit.getInteger("initial_limit", DEFAULT_CONCURRENCY_INITIAL_LIMIT);
+        concurrencyMinLimit = limit.getInteger("min_limit", DEFAULT_CONCURRENCY_MIN_LIMIT);
+        concurrencyMaxLimit = limit.getInteger("max_limit", DEFAULT_CONCURRENCY_MAX_LIMIT);
+        concurrencyMaxQueue = limit.getInteger("max_queue", DEFAULT_CONCURRENCY_MAX_QUEUE);
+        concurrencyBackoffRatio = limit.getDouble("backoff_ratio", 0.9);
+        concurrencyLatencyThreshold = limit.getLong("latency_threshold", 1000L);
+        concurrencySmoothing = limit.getDouble("smoothing", 0.2);
+    }
+
+    private void parseWarmUp(JsonObject config) {
+        JsonObject warmUp = config.getJsonObject("warm_up", new JsonObject());
+
+        warmUpStatements = new ArrayList<>();
+        warmUp.getJsonArray("statements", new JsonArray()).forEach(s -> warmUpStatements.add((String) s));
+        warmUpConnections = warmUp.getInteger("connections", 0);
+        warmUpTimeout = warmUp.getLong("timeout", DEFAULT_WARM_UP_TIMEOUT);
+
+        // Pools open no more than their core connections up front, so waiting
+        // for more could only time out
+        Integer core = config.getJsonObject("pooling", new JsonObject()).getJsonObject("local", new JsonObject())
+                .getInteger("core_connections");
+        if (warmUpConnections < 0) {
+            throw new IllegalArgumentException("warm_up connections (" + warmUpConnections + ") cannot be negative");
+        } else if (core != null && warmUpConnections > core) {
+            throw new IllegalArgumentException("warm_up connections (" + warmUpConnections + ") cannot be greater "
+                    + "than core_connections (" + core + ") for LOCAL hosts");
+        }
+    }
+
+    private void parseSlowQueryLog(JsonObject config) {
+        JsonObject slowQueries = config.getJsonObject("slow_query_log", new JsonObject());
+
+        slowQueryThreshold = slowQueries.getLong("threshold", 0L);
+        slowQueryCapacity = slowQueries.getInteger("capacity", DEFAULT_SLOW_QUERY_CAPACITY);
+        slowQueryThresholds = new HashMap<>();
+        JsonObject perStatement = slowQueries.getJsonObject("statements", new JsonObject());
+        perStatement.fieldNames().forEach(name -> slowQueryThresholds.put(name, perStatement.getLong(name)));
+    }
+
+    private void parseCodecs(JsonObject config) {
+        codecs = new ArrayList<>();
+        // Codecs usually live in the application, which a module or container
+        // may load apart from this library
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) {
+            loader = CassandraClientOptionsParser.class.getClassLoader();
+        }
+        for (Object name : config.getJsonArray("codecs", new JsonArray())) {
+            try {
+                codecs.add((TypeCodec<?>) Class.forName((String) name, true, loader).newInstance());
+            } catch (ReflectiveOperationException | ClassCastException e) {
+                throw new IllegalArgumentException("Could not create codec " + name, e);
+            }
+        }
+    }
+
+    public int preparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    public long resultCacheMaxBytes() {
+        return resultCacheMaxBytes;
+    }
+
+    public boolean metricsEnabled() {
+        return metricsEnabled;
+    }
+
+    public int metricsMaxStatements() {
+        return metricsMaxStatements;
+    }
+
+    public String metricsPublishAddress() {
+        return metricsPublishAddress;
+    }
+
+    public long metricsPublishPeriod() {
+        return metricsPublishPeriod;
+    }
+
+    public boolean concurrencyLimitEnabled() {
+        return concurrencyLimitEnabled;
+    }
+
+    public ConcurrencyLimiter.Algorithm concurrencyAlgorithm() {
+        return concurrencyAlgorithm;
+    }
+
+    public int concurrencyInitialLimit() {
+        return concurrencyInitialLimit;
+    }
+
+    public int concurrencyMinLimit() {
+        return concurrencyMinLimit;
+    }
+
+    public int concurrencyMaxLimit() {
+        return concurrencyMaxLimit;
+    }
+
+    public int concurrencyMaxQueue() {
+        return concurrencyMaxQueue;
+    }
+
+    public double concurrencyBackoffRatio() {
+        return concurrencyBackoffRatio;
+    }
+
+    public long concurrencyLatencyThreshold() {
+        return concurrencyLatencyThreshold;
+    }
+
+    public double concurrencySmoothing() {
+        return concurrencySmoothing;
+    }
+
+    public long slowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public Map<String, Long> slowQueryThresholds() {
+        return slowQueryThresholds;
+    }
+
+    public int slowQueryCapacity() {
+        return slowQueryCapacity;
+    }
+
+    public List<String> warmUpStatements() {
+        return warmUpStatements;
+    }
+
+    public int warmUpConnections() {
+        return warmUpConnections;
+    }
+
+    public long warmUpTimeout() {
+        return warmUpTimeout;
+    }
+
+    public List<TypeCodec<?>> codecs() {
+        return codecs;
+    }
+
+}
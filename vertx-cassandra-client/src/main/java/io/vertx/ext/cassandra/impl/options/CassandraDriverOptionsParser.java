@@ -2,6 +2,7 @@ package io.vertx.ext.cassandra.impl.options;
 
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.impl.SpeculativeExecutionTracker;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -9,20 +10,44 @@ import java.net.UnknownHostException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 import com.datastax.driver.core.Cluster;
 import com.datastax.driver.core.Cluster.Initializer;
+import com.datastax.driver.core.ConsistencyLevel;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.PerHostPercentileTracker;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.QueryOptions;
+import com.datastax.driver.core.SocketOptions;
+import com.datastax.driver.core.policies.ConstantSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.PercentileSpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
 
 public class CassandraDriverOptionsParser {
 
     private Cluster.Builder builder;
     private String keyspace;
+    private SpeculativeExecutionTracker speculativeExecutions;
+    private PerHostPercentileTracker percentileTracker;
 
     public CassandraDriverOptionsParser(JsonObject config) {
         Objects.requireNonNull(config, "Cassandra configuration cannot be null");
 
         builder = Cluster.builder();
         this.parseContactPoints(config);
+        this.parsePoolingOptions(config);
+        this.parseSocketOptions(config);
+        this.parseLoadBalancing(config);
+        this.parseSpeculativeExecution(config);
+        this.parseProtocol(config);
+        builder.withQueryOptions(parseQueryOptions(config));
 
         // contactPoints.forEach(c -> builder.addContactPoint((String) c));
 
@@ -53,6 +78,214 @@ public class CassandraDriverOptionsParser {
         builder.addContactPointsWithPorts(points);
     }
 
+    private void parsePoolingOptions(JsonObject config) {
+        JsonObject pooling = config.getJsonObject("pooling");
+        if (pooling == null) {
+            return;
+        }
+
+        PoolingOptions options = new PoolingOptions();
+        this.parseHostPooling(options, HostDistance.LOCAL, pooling.getJsonObject("local"));
+        this.parseHostPooling(options, HostDistance.REMOTE, pooling.getJsonObject("remote"));
+
+        Integer heartbeatInterval = pooling.getInteger("heartbeat_interval");
+        if (heartbeatInterval != null) {
+            options.setHeartbeatIntervalSeconds(heartbeatInterval);
+        }
+        Integer poolTimeout = pooling.getInteger("pool_timeout");
+        if (poolTimeout != null) {
+            options.setPoolTimeoutMillis(poolTimeout);
+        }
+
+        builder.withPoolingOptions(options);
+    }
+
+    private void parseHostPooling(PoolingOptions options, HostDistance distance, JsonObject config) {
+        if (config == null) {
+            return;
+        }
+
+        Integer core = config.getInteger("core_connections");
+        Integer max = config.getInteger("max_connections");
+        if (core != null && max != null && core > max) {
+            throw new IllegalArgumentException("core_connections (" + core + ") cannot be greater than "
+                    + "max_connections (" + max + ") for " + distance + " hosts");
+        }
+        // The driver checks core <= max on every change, so apply them in
+        // the order that never breaks that invariant
+        if (max != null && max >= options.getCoreConnectionsPerHost(distance)) {
+            options.setMaxConnectionsPerHost(distance, max);
+            max = null;
+        }
+        if (core != null) {
+            options.setCoreConnectionsPerHost(distance, core);
+        }
+        if (max != null) {
+            options.setMaxConnectionsPerHost(distance, max);
+        }
+
+        Integer maxRequests = config.getInteger("max_requests_per_connection");
+        if (maxRequests != null) {
+            options.setMaxSimultaneousRequestsPerConnectionThreshold(distance, maxRequests);
+        }
+        Integer minRequests = config.getInteger("min_requests_per_connection");
+        if (minRequests != null) {
+            options.setMinSimultaneousRequestsPerConnectionThreshold(distance, minRequests);
+        }
+    }
+
+    private void parseSocketOptions(JsonObject config) {
+        JsonObject socket = config.getJsonObject("socket");
+        if (socket == null) {
+            return;
+        }
+
+        SocketOptions options = new SocketOptions();
+        if (socket.containsKey("connect_timeout")) {
+            options.setConnectTimeoutMillis(socket.getInteger("connect_timeout"));
+        }
+        if (socket.containsKey("read_timeout")) {
+            options.setReadTimeoutMillis(socket.getInteger("read_timeout"));
+        }
+        if (socket.containsKey("tcp_no_delay")) {
+            options.setTcpNoDelay(socket.getBoolean("tcp_no_delay"));
+        }
+        if (socket.containsKey("keep_alive")) {
+            options.setKeepAlive(socket.getBoolean("keep_alive"));
+        }
+        if (socket.containsKey("reuse_address")) {
+            options.setReuseAddress(socket.getBoolean("reuse_address"));
+        }
+        if (socket.containsKey("so_linger")) {
+            options.setSoLinger(socket.getInteger("so_linger"));
+        }
+        if (socket.containsKey("receive_buffer_size")) {
+            options.setReceiveBufferSize(socket.getInteger("receive_buffer_size"));
+        }
+        if (socket.containsKey("send_buffer_size")) {
+            options.setSendBufferSize(socket.getInteger("send_buffer_size"));
+        }
+
+        builder.withSocketOptions(options);
+    }
+
+    private void parseLoadBalancing(JsonObject config) {
+        JsonObject loadBalancing = config.getJsonObject("load_balancing");
+        if (loadBalancing == null) {
+            return;
+        }
+
+        String localDc = loadBalancing.getString("local_dc");
+        int usedHostsPerRemoteDc = loadBalancing.getInteger("used_hosts_per_remote_dc", 0);
+        boolean allowRemoteDcs = loadBalancing.getBoolean("allow_remote_dcs_for_local_cl", false);
+
+        LoadBalancingPolicy policy;
+        if (localDc != null) {
+            policy = new DCAwareRoundRobinPolicy(localDc, usedHostsPerRemoteDc, allowRemoteDcs);
+        } else {
+            policy = new DCAwareRoundRobinPolicy();
+        }
+
+        JsonObject latencyAware = loadBalancing.getJsonObject("latency_aware");
+        if (latencyAware != null) {
+            policy = this.parseLatencyAwarePolicy(policy, latencyAware);
+        }
+
+        // Token awareness goes outermost so replicas are tried first, in the
+        // order the latency aware layer (if any) ranks them
+        if (loadBalancing.getBoolean("token_aware", true)) {
+            policy = new TokenAwarePolicy(policy, loadBalancing.getBoolean("shuffle_replicas", true));
+        }
+
+        builder.withLoadBalancingPolicy(policy);
+    }
+
+    private LoadBalancingPolicy parseLatencyAwarePolicy(LoadBalancingPolicy child, JsonObject config) {
+        LatencyAwarePolicy.Builder latencyBuilder = LatencyAwarePolicy.builder(child);
+        if (config.containsKey("exclusion_threshold")) {
+            latencyBuilder.withExclusionThreshold(config.getDouble("exclusion_threshold"));
+        }
+        if (config.containsKey("scale")) {
+            latencyBuilder.withScale(config.getLong("scale"), TimeUnit.MILLISECONDS);
+        }
+        if (config.containsKey("retry_period")) {
+            latencyBuilder.withRetryPeriod(config.getLong("retry_period"), TimeUnit.MILLISECONDS);
+        }
+        if (config.containsKey("update_rate")) {
+            latencyBuilder.withUpdateRate(config.getLong("update_rate"), TimeUnit.MILLISECONDS);
+        }
+        if (config.containsKey("min_measurements")) {
+            latencyBuilder.withMininumMeasurements(config.getInteger("min_measurements"));
+        }
+        return latencyBuilder.build();
+    }
+
+    private void parseSpeculativeExecution(JsonObject config) {
+        JsonObject speculative = config.getJsonObject("speculative_execution");
+        if (speculative == null) {
+            return;
+        }
+
+        int maxExecutions = speculative.getInteger("max_executions", 1);
+        String type = speculative.getString("type", "constant");
+
+        SpeculativeExecutionPolicy policy;
+        switch (type) {
+        case "constant":
+            policy = new ConstantSpeculativeExecutionPolicy(speculative.getLong("delay", 100L), maxExecutions);
+            break;
+        case "percentile":
+            percentileTracker = PerHostPercentileTracker
+                    .builderWithHighestTrackableLatencyMillis(speculative.getLong("highest_trackable_latency", 15000L))
+                    .build();
+            policy = new PercentileSpeculativeExecutionPolicy(percentileTracker,
+                    speculative.getDouble("percentile", 99.0), maxExecutions);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown speculative execution type: " + type);
+        }
+
+        speculativeExecutions = new SpeculativeExecutionTracker(policy);
+        builder.withSpeculativeExecutionPolicy(speculativeExecutions);
+    }
+
+    private void parseProtocol(JsonObject config) {
+        String compression = config.getString("compression");
+        if (compression != null) {
+            builder.withCompression(ProtocolOptions.Compression.valueOf(compression.toUpperCase()));
+        }
+
+        Integer protocolVersion = config.getInteger("protocol_version");
+        if (protocolVersion != null) {
+            builder.withProtocolVersion(ProtocolVersion.fromInt(protocolVersion));
+        }
+    }
+
+    // Also used without a full parse, so the client can derive its default
+    // execution options even before (or without) connecting
+    public static QueryOptions parseQueryOptions(JsonObject config) {
+        QueryOptions options = new QueryOptions();
+        JsonObject queryOptions = config.getJsonObject("query_options");
+        if (queryOptions == null) {
+            return options;
+        }
+
+        if (queryOptions.containsKey("consistency_level")) {
+            options.setConsistencyLevel(ConsistencyLevel.valueOf(queryOptions.getString("consistency_level")));
+        }
+        if (queryOptions.containsKey("serial_consistency_level")) {
+            options.setSerialConsistencyLevel(
+                    ConsistencyLevel.valueOf(queryOptions.getString("serial_consistency_level")));
+        }
+        if (queryOptions.containsKey("fetch_size")) {
+            options.setFetchSize(queryOptions.getInteger("fetch_size"));
+        }
+        if (queryOptions.containsKey("default_idempotence")) {
+            options.setDefaultIdempotence(queryOptions.getBoolean("default_idempotence"));
+        }
+        return options;
+    }
+
     private InetSocketAddress getInetAddress(String hostAndPort) throws UnknownHostException {
 
         String host = hostAndPort;
@@ -74,4 +307,12 @@ public class CassandraDriverOptionsParser {
         return keyspace;
     }
 
+    public SpeculativeExecutionTracker speculativeExecutions() {
+        return speculativeExecutions;
+    }
+
+    public PerHostPercentileTracker percentileTracker() {
+        return percentileTracker;
+    }
+
 }
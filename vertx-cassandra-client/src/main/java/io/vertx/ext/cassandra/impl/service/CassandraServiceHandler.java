@@ -0,0 +1,77 @@
+package io.vertx.ext.cassandra.impl.service;
+
+import java.util.Collections;
+import java.util.List;
+
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.eventbus.Message;
+import io.vertx.core.eventbus.MessageConsumer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraClient;
+import io.vertx.ext.cassandra.ExecutionOptions;
+
+public class CassandraServiceHandler implements Handler<Message<JsonObject>> {
+
+    static final String ACTION = "action";
+    static final String EXECUTE = "execute";
+    static final int FAILURE_CODE = -1;
+
+    private Vertx vertx;
+    private CassandraClient client;
+
+    public CassandraServiceHandler(Vertx vertx, CassandraClient client) {
+        this.vertx = vertx;
+        this.client = client;
+    }
+
+    public MessageConsumer<JsonObject> register(String address) {
+        ResultSetMessageCodec.register(vertx.eventBus());
+        return vertx.eventBus().consumer(address, this);
+    }
+
+    @Override
+    public void handle(Message<JsonObject> message) {
+        String action = message.headers().get(ACTION);
+        if (!EXECUTE.equals(action)) {
+            message.fail(FAILURE_CODE, "Unknown action: " + action);
+            return;
+        }
+
+        JsonObject body = message.body();
+        JsonArray parameters = body.getJsonArray("parameters");
+        JsonObject options = body.getJsonObject("options");
+
+        try {
+            client.executeWithOptions(body.getString("statement"), this.toList(parameters),
+                    options == null ? null : new ExecutionOptions(options), ar -> {
+                        if (ar.succeeded()) {
+                            // Only replies that may leave this node are ever
+                            // encoded; local ones are handed over as they are
+                            if (vertx.isClustered()) {
+                                try {
+                                    ResultSetMessageCodec.checkEncodable(ar.result());
+                                } catch (IllegalArgumentException e) {
+                                    message.fail(FAILURE_CODE, e.getMessage());
+                                    return;
+                                }
+                            }
+                            message.reply(ar.result(),
+                                    new DeliveryOptions().setCodecName(ResultSetMessageCodec.NAME));
+                        } else {
+                            message.fail(FAILURE_CODE, ar.cause().getMessage());
+                        }
+                    });
+        } catch (RuntimeException e) {
+            message.fail(FAILURE_CODE, e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> toList(JsonArray parameters) {
+        return parameters == null ? Collections.emptyList() : parameters.getList();
+    }
+
+}
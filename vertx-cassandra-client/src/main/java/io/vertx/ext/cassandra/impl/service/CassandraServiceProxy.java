@@ -0,0 +1,57 @@
+package io.vertx.ext.cassandra.impl.service;
+
+import java.util.List;
+
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.eventbus.DeliveryOptions;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraService;
+import io.vertx.ext.cassandra.ExecutionOptions;
+import io.vertx.ext.cassandra.ResultSet;
+
+public class CassandraServiceProxy implements CassandraService {
+
+    private Vertx vertx;
+    private String address;
+
+    public CassandraServiceProxy(Vertx vertx, String address) {
+        this.vertx = vertx;
+        this.address = address;
+        ResultSetMessageCodec.register(vertx.eventBus());
+    }
+
+    @Override
+    public CassandraService execute(String statement, List<Object> parameters,
+            Handler<AsyncResult<ResultSet>> resultHandler) {
+        return this.executeWithOptions(statement, parameters, null, resultHandler);
+    }
+
+    @Override
+    public CassandraService executeWithOptions(String statement, List<Object> parameters, ExecutionOptions options,
+            Handler<AsyncResult<ResultSet>> resultHandler) {
+
+        // Parameters travel as JSON, so they must be JSON compatible values
+        JsonObject request = new JsonObject().put("statement", statement).put("parameters",
+                new JsonArray(parameters));
+        if (options != null) {
+            request.put("options", options.toJson());
+        }
+
+        DeliveryOptions deliveryOptions = new DeliveryOptions().addHeader(CassandraServiceHandler.ACTION,
+                CassandraServiceHandler.EXECUTE);
+
+        vertx.eventBus().<ResultSet> send(address, request, deliveryOptions, ar -> {
+            if (ar.succeeded()) {
+                resultHandler.handle(Future.succeededFuture(ar.result().body()));
+            } else {
+                resultHandler.handle(Future.failedFuture(ar.cause()));
+            }
+        });
+        return this;
+    }
+
+}
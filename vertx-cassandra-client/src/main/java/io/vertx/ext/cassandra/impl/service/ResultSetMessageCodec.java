@@ -0,0 +1,365 @@
+package io.vertx.ext.cassandra.impl.service;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.eventbus.EventBus;
+import io.vertx.core.eventbus.MessageCodec;
+import io.vertx.ext.cassandra.ConsistencyLevel;
+import io.vertx.ext.cassandra.ExecutionInfo;
+import io.vertx.ext.cassandra.ResultSet;
+
+public class ResultSetMessageCodec implements MessageCodec<ResultSet, ResultSet> {
+
+    public static final String NAME = "cassandra-resultset";
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INT = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte FLOAT = 5;
+    private static final byte BOOLEAN = 6;
+    private static final byte BYTES = 7;
+    private static final byte UUID_VALUE = 8;
+    private static final byte DATE = 9;
+    private static final byte DECIMAL = 10;
+    private static final byte VARINT = 11;
+    private static final byte INET = 12;
+    private static final byte LIST = 13;
+    private static final byte SET = 14;
+    private static final byte MAP = 15;
+
+    public static void register(EventBus eventBus) {
+        try {
+            eventBus.registerCodec(new ResultSetMessageCodec());
+        } catch (IllegalStateException e) {
+            // Already registered by another client or service on this event bus
+        }
+    }
+
+    // Encoding runs on the event bus send path, where a failure cannot reach
+    // the caller, so replies are checked first (i.e: UDT and tuple values
+    // have no wire format)
+    public static void checkEncodable(ResultSet resultSet) {
+        int columns = resultSet.getColumnNames().size();
+        for (int r = 0; r < resultSet.size(); r++) {
+            for (int c = 0; c < columns; c++) {
+                checkEncodable(resultSet.getObject(r, c));
+            }
+        }
+    }
+
+    private static void checkEncodable(Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Float || value instanceof Boolean
+                || value instanceof ByteBuffer || value instanceof UUID || value instanceof Date
+                || value instanceof BigDecimal || value instanceof BigInteger || value instanceof InetAddress) {
+            return;
+        } else if (value instanceof Collection) {
+            ((Collection<?>) value).forEach(ResultSetMessageCodec::checkEncodable);
+        } else if (value instanceof Map) {
+            ((Map<?, ?>) value).forEach((k, v) -> {
+                checkEncodable(k);
+                checkEncodable(v);
+            });
+        } else {
+            throw new IllegalArgumentException("Cannot encode values of type " + value.getClass().getName());
+        }
+    }
+
+    @Override
+    public void encodeToWire(Buffer buffer, ResultSet resultSet) {
+        List<String> names = resultSet.getColumnNames();
+        buffer.appendInt(names.size());
+        names.forEach(name -> this.writeString(buffer, name));
+
+        this.writeExecutionInfo(buffer, resultSet.getExecutionInfo());
+
+        // Column names are written once, then every cell with a type tag
+        buffer.appendInt(resultSet.size());
+        for (int r = 0; r < resultSet.size(); r++) {
+            for (int c = 0; c < names.size(); c++) {
+                this.writeValue(buffer, resultSet.getObject(r, c));
+            }
+        }
+    }
+
+    @Override
+    public ResultSet decodeFromWire(int pos, Buffer buffer) {
+        Reader reader = new Reader(buffer, pos);
+
+        int columns = reader.readInt();
+        List<String> names = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            names.add(reader.readString());
+        }
+
+        ExecutionInfo executionInfo = this.readExecutionInfo(reader);
+
+        int rows = reader.readInt();
+        List<List<Object>> values = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            List<Object> row = new ArrayList<>(columns);
+            for (int c = 0; c < columns; c++) {
+                row.add(this.readValue(reader));
+            }
+            values.add(row);
+        }
+
+        return new ResultSet(names, values, executionInfo);
+    }
+
+    @Override
+    public ResultSet transform(ResultSet resultSet) {
+        // Local delivery hands over the same instance, no copy is made
+        return resultSet;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte systemCodecID() {
+        return -1;
+    }
+
+    private void writeExecutionInfo(Buffer buffer, ExecutionInfo executionInfo) {
+        if (executionInfo == null) {
+            buffer.appendByte((byte) 0);
+            return;
+        }
+        buffer.appendByte((byte) 1);
+        this.writeNullableString(buffer, executionInfo.getQueryTrace());
+        // By name, so nodes running versions with other constants still agree
+        ConsistencyLevel consistency = executionInfo.getAchievedConsistencyLevel();
+        this.writeNullableString(buffer, consistency == null ? null : consistency.name());
+        this.writeNullableString(buffer, executionInfo.getPagingState());
+    }
+
+    private ExecutionInfo readExecutionInfo(Reader reader) {
+        if (reader.readByte() == 0) {
+            return null;
+        }
+        ExecutionInfo result = new ExecutionInfo();
+        result.setQueryTrace(reader.readNullableString());
+        String consistency = reader.readNullableString();
+        if (consistency != null) {
+            result.setAchievedConsistencyLevel(ConsistencyLevel.valueOf(consistency));
+        }
+        result.setPagingState(reader.readNullableString());
+        return result;
+    }
+
+    private void writeValue(Buffer buffer, Object value) {
+        if (value == null) {
+            buffer.appendByte(NULL);
+        } else if (value instanceof String) {
+            buffer.appendByte(STRING);
+            this.writeString(buffer, (String) value);
+        } else if (value instanceof Integer) {
+            buffer.appendByte(INT).appendInt((Integer) value);
+        } else if (value instanceof Long) {
+            buffer.appendByte(LONG).appendLong((Long) value);
+        } else if (value instanceof Double) {
+            buffer.appendByte(DOUBLE).appendDouble((Double) value);
+        } else if (value instanceof Float) {
+            buffer.appendByte(FLOAT).appendFloat((Float) value);
+        } else if (value instanceof Boolean) {
+            buffer.appendByte(BOOLEAN).appendByte((Boolean) value ? (byte) 1 : (byte) 0);
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer bytes = ((ByteBuffer) value).duplicate();
+            byte[] contents = new byte[bytes.remaining()];
+            bytes.get(contents);
+            buffer.appendByte(BYTES);
+            this.writeBytes(buffer, contents);
+        } else if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            buffer.appendByte(UUID_VALUE).appendLong(uuid.getMostSignificantBits())
+                    .appendLong(uuid.getLeastSignificantBits());
+        } else if (value instanceof Date) {
+            buffer.appendByte(DATE).appendLong(((Date) value).getTime());
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            buffer.appendByte(DECIMAL).appendInt(decimal.scale());
+            this.writeBytes(buffer, decimal.unscaledValue().toByteArray());
+        } else if (value instanceof BigInteger) {
+            buffer.appendByte(VARINT);
+            this.writeBytes(buffer, ((BigInteger) value).toByteArray());
+        } else if (value instanceof InetAddress) {
+            buffer.appendByte(INET);
+            this.writeBytes(buffer, ((InetAddress) value).getAddress());
+        } else if (value instanceof List) {
+            buffer.appendByte(LIST);
+            this.writeCollection(buffer, (List<?>) value);
+        } else if (value instanceof Set) {
+            buffer.appendByte(SET);
+            this.writeCollection(buffer, (Set<?>) value);
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            buffer.appendByte(MAP).appendInt(map.size());
+            map.forEach((k, v) -> {
+                this.writeValue(buffer, k);
+                this.writeValue(buffer, v);
+            });
+        } else {
+            throw new IllegalArgumentException("Cannot encode values of type " + value.getClass().getName());
+        }
+    }
+
+    private void writeCollection(Buffer buffer, Collection<?> values) {
+        buffer.appendInt(values.size());
+        values.forEach(v -> this.writeValue(buffer, v));
+    }
+
+    private Object readValue(Reader reader) {
+        byte type = reader.readByte();
+        switch (type) {
+        case NULL:
+            return null;
+        case STRING:
+            return reader.readString();
+        case INT:
+            return reader.readInt();
+        case LONG:
+            return reader.readLong();
+        case DOUBLE:
+            return reader.readDouble();
+        case FLOAT:
+            return reader.readFloat();
+        case BOOLEAN:
+            return reader.readByte() != 0;
+        case BYTES:
+            return ByteBuffer.wrap(reader.readBytes());
+        case UUID_VALUE:
+            return new UUID(reader.readLong(), reader.readLong());
+        case DATE:
+            return new Date(reader.readLong());
+        case DECIMAL:
+            int scale = reader.readInt();
+            return new BigDecimal(new BigInteger(reader.readBytes()), scale);
+        case VARINT:
+            return new BigInteger(reader.readBytes());
+        case INET:
+            try {
+                return InetAddress.getByAddress(reader.readBytes());
+            } catch (UnknownHostException e) {
+                throw new IllegalStateException(e);
+            }
+        case LIST:
+            int listSize = reader.readInt();
+            List<Object> list = new ArrayList<>(listSize);
+            for (int i = 0; i < listSize; i++) {
+                list.add(this.readValue(reader));
+            }
+            return list;
+        case SET:
+            int setSize = reader.readInt();
+            Set<Object> set = new LinkedHashSet<>();
+            for (int i = 0; i < setSize; i++) {
+                set.add(this.readValue(reader));
+            }
+            return set;
+        case MAP:
+            int mapSize = reader.readInt();
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (int i = 0; i < mapSize; i++) {
+                map.put(this.readValue(reader), this.readValue(reader));
+            }
+            return map;
+        default:
+            throw new IllegalStateException("Unknown value type " + type);
+        }
+    }
+
+    private void writeString(Buffer buffer, String value) {
+        this.writeBytes(buffer, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeNullableString(Buffer buffer, String value) {
+        if (value == null) {
+            buffer.appendInt(-1);
+        } else {
+            this.writeString(buffer, value);
+        }
+    }
+
+    private void writeBytes(Buffer buffer, byte[] bytes) {
+        buffer.appendInt(bytes.length).appendBytes(bytes);
+    }
+
+    private static final class Reader {
+
+        private final Buffer buffer;
+        private int pos;
+
+        private Reader(Buffer buffer, int pos) {
+            this.buffer = buffer;
+            this.pos = pos;
+        }
+
+        byte readByte() {
+            return buffer.getByte(pos++);
+        }
+
+        int readInt() {
+            int result = buffer.getInt(pos);
+            pos += 4;
+            return result;
+        }
+
+        long readLong() {
+            long result = buffer.getLong(pos);
+            pos += 8;
+            return result;
+        }
+
+        float readFloat() {
+            float result = buffer.getFloat(pos);
+            pos += 4;
+            return result;
+        }
+
+        double readDouble() {
+            double result = buffer.getDouble(pos);
+            pos += 8;
+            return result;
+        }
+
+        byte[] readBytes() {
+            int length = this.readInt();
+            byte[] result = buffer.getBytes(pos, pos + length);
+            pos += length;
+            return result;
+        }
+
+        String readString() {
+            return new String(this.readBytes(), StandardCharsets.UTF_8);
+        }
+
+        String readNullableString() {
+            if (buffer.getInt(pos) == -1) {
+                pos += 4;
+                return null;
+            }
+            return this.readString();
+        }
+    }
+
+}
@@ -1,19 +1,34 @@
 package io.vertx.ext.cassandra.impl.util;
 
-import io.vertx.core.Vertx;
+import io.vertx.core.Context;
 
 import java.util.concurrent.Executor;
+import java.util.function.LongConsumer;
 
 public class VertxExecutor implements Executor {
 
-    private Vertx vertx;
+    private Context context;
+    private LongConsumer dispatchDelay;
 
-    public VertxExecutor(Vertx vertx) {
-        this.vertx = vertx;
+    public VertxExecutor(Context context) {
+        this(context, null);
+    }
+
+    public VertxExecutor(Context context, LongConsumer dispatchDelay) {
+        this.context = context;
+        this.dispatchDelay = dispatchDelay;
     }
 
     @Override
     public void execute(Runnable command) {
-        vertx.runOnContext((v) -> command.run());
+        if (dispatchDelay == null) {
+            context.runOnContext((v) -> command.run());
+        } else {
+            long queued = System.nanoTime();
+            context.runOnContext((v) -> {
+                dispatchDelay.accept(System.nanoTime() - queued);
+                command.run();
+            });
+        }
     }
 }
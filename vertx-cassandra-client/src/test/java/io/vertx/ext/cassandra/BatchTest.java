@@ -0,0 +1,52 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class BatchTest extends CassandraTestBase {
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(2, h -> {
+            cassandra.execute("create table batch_table (pk varchar, ck int, val int, primary key ((pk), ck))", h);
+            cassandra.execute("create table batch_counters (pk varchar, hits counter, primary key(pk))", h);
+        });
+    }
+
+    @Test
+    public void unloggedBatch() {
+        Batch batch = new Batch(BatchType.UNLOGGED);
+        for (int i = 0; i < 20; i++) {
+            batch.add("insert into batch_table (pk, ck, val) values (?, ?, ?)", Arrays.asList("1", i, i * 2));
+        }
+        batch.add("insert into batch_table (pk, ck, val) values ('1', 100, 200)");
+
+        cassandra.executeBatch(batch, this.onSuccess(r -> {
+            cassandra.execute("select ck, val from batch_table where pk = '1'", this.onSuccess(result -> {
+                this.assertEquals(21, result.size());
+                result.getValues().forEach(row -> this.assertEquals((int) row.get(0) * 2, row.get(1)));
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void counterBatch() {
+        Batch batch = new Batch(BatchType.COUNTER).add("update batch_counters set hits = hits + 1 where pk = 'a'")
+                .add("update batch_counters set hits = hits + ? where pk = ?", Arrays.asList(2L, "a"));
+
+        cassandra.executeBatch(batch, this.onSuccess(r -> {
+            cassandra.execute("select hits from batch_counters where pk = 'a'", this.onSuccess(result -> {
+                this.assertEquals(1, result.size());
+                this.assertEquals(3L, result.getValues().get(0).get(0));
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+}
@@ -0,0 +1,116 @@
+package io.vertx.ext.cassandra;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.impl.service.ResultSetMessageCodec;
+
+public class CassandraServiceTest extends CassandraTestBase {
+
+    private static final String ADDRESS = "vertx.cassandra.test";
+
+    @Test
+    public void codecRoundTrip() throws Exception {
+        List<Object> row = Arrays.asList("text", 1, 2L, 3d, 4f, true, ByteBuffer.wrap(new byte[] { 1, 2 }),
+                UUID.randomUUID(), new Date(), new BigDecimal("12.345"), InetAddress.getByName("10.0.0.1"),
+                Arrays.asList(1, 2), Collections.singletonMap("k", "v"), null);
+        ExecutionInfo info = new ExecutionInfo().setAchievedConsistencyLevel(ConsistencyLevel.QUORUM)
+                .setPagingState("abc");
+        ResultSet resultSet = new ResultSet(Arrays.asList("a", "b", "c", "d", "e", "f", "g", "h", "i", "j", "k",
+                "l", "m", "n"), Arrays.asList(row, row), info);
+
+        ResultSetMessageCodec codec = new ResultSetMessageCodec();
+        Buffer buffer = Buffer.buffer().appendString("header");
+        codec.encodeToWire(buffer, resultSet);
+        ResultSet decoded = codec.decodeFromWire(6, buffer);
+
+        this.assertEquals(resultSet.getColumnNames(), decoded.getColumnNames());
+        this.assertEquals(resultSet.getValues(), decoded.getValues());
+        this.assertEquals(ConsistencyLevel.QUORUM, decoded.getExecutionInfo().getAchievedConsistencyLevel());
+        this.assertEquals("abc", decoded.getExecutionInfo().getPagingState());
+        this.assertNull(decoded.getExecutionInfo().getQueryTrace());
+    }
+
+    @Test
+    public void proxyExecute() throws InterruptedException {
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table service_table (pk int, val text, primary key(pk))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("insert into service_table (pk, val) values (?, ?)", Arrays.asList(1, "one"), h);
+        });
+
+        CassandraService.registerService(vertx, cassandra, ADDRESS);
+        CassandraService proxy = CassandraService.createEventBusProxy(vertx, ADDRESS);
+
+        proxy.execute("select pk, val from service_table where pk = ?", Arrays.asList(1), this.onSuccess(r -> {
+            this.assertEquals(1, r.size());
+            this.assertEquals("one", r.getString(0, 1));
+            proxy.execute("select * from missing_table", Collections.emptyList(), this.onFailure(t -> {
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void unencodableValuesFail() {
+        ResultSet resultSet = new ResultSet(Arrays.asList("a"),
+                Arrays.asList(Arrays.asList(Arrays.asList(1, new Object()))), null);
+        try {
+            ResultSetMessageCodec.checkEncodable(resultSet);
+            this.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            this.assertTrue(e.getMessage(), e.getMessage().startsWith("Cannot encode values of type"));
+        }
+    }
+
+    @Test
+    public void unencodableValuesDeliveredLocally() throws InterruptedException {
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table service_tuples (pk int, val frozen<tuple<int, text>>, primary key(pk))",
+                    h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("insert into service_tuples (pk, val) values (1, (1, 'one'))", h);
+        });
+
+        CassandraService.registerService(vertx, cassandra, ADDRESS);
+        CassandraService proxy = CassandraService.createEventBusProxy(vertx, ADDRESS);
+
+        // Tuples have no wire format, but a local reply is never encoded
+        proxy.execute("select val from service_tuples where pk = 1", Collections.emptyList(), this.onSuccess(r -> {
+            this.assertEquals(1, r.size());
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void proxyExecuteWithoutOptions() {
+        // Requests without options leave idempotence to the driver default
+        JsonObject config = this.getConfig().put("speculative_execution",
+                new JsonObject().put("type", "constant").put("delay", 100).put("max_executions", 2));
+        CassandraClient speculative = CassandraClient.createNonShared(vertx, config);
+        CassandraService.registerService(vertx, speculative, ADDRESS);
+        CassandraService proxy = CassandraService.createEventBusProxy(vertx, ADDRESS);
+
+        proxy.execute("select * from system.local", Collections.emptyList(), this.onSuccess(r -> {
+            this.assertEquals(1, r.size());
+            speculative.close();
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+}
@@ -0,0 +1,239 @@
+package io.vertx.ext.cassandra;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.DataType;
+import com.datastax.driver.core.ProtocolVersion;
+import com.datastax.driver.core.Row;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class CodecTest extends CassandraTestBase {
+
+    private static final String INSERT = "insert into codec_table (id, doc, attrs, tags, created, data, lang) "
+            + "values (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final JsonObject DOC = new JsonObject().put("name", "one").put("nested",
+            new JsonObject().put("n", 1));
+    private static final JsonObject ATTRS = new JsonObject().put("a", 1).put("b", 2);
+    private static final JsonArray TAGS = new JsonArray().add("x").add("y");
+    private static final Instant CREATED = Instant.ofEpochMilli(1445000000123L);
+    private static final Buffer DATA = Buffer.buffer(new byte[] { 0, 1, 2, (byte) 0xff });
+
+    public static class LocaleCodec implements TypeCodec<Locale> {
+
+        @Override
+        public Class<Locale> getJavaType() {
+            return Locale.class;
+        }
+
+        @Override
+        public boolean accepts(DataType cqlType) {
+            return cqlType.getName() == DataType.Name.TEXT || cqlType.getName() == DataType.Name.VARCHAR;
+        }
+
+        @Override
+        public ByteBuffer serialize(Locale value, DataType cqlType, ProtocolVersion protocolVersion) {
+            return ByteBuffer.wrap(value.toLanguageTag().getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public Locale deserialize(ByteBuffer bytes, DataType cqlType, ProtocolVersion protocolVersion) {
+            return Locale.forLanguageTag(StandardCharsets.UTF_8.decode(bytes).toString());
+        }
+
+    }
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table codec_table (id int primary key, doc text, attrs map<text, int>, "
+                    + "tags set<text>, created timestamp, data blob, lang text)", h);
+        });
+    }
+
+    @Override
+    protected JsonObject getConfig() {
+        return super.getConfig().put("codecs", new JsonArray().add(LocaleCodec.class.getName()));
+    }
+
+    @Test
+    public void prepared() {
+        cassandra.execute(INSERT, Arrays.asList(1, DOC, ATTRS, TAGS, CREATED, DATA, Locale.CANADA_FRENCH),
+                this.onSuccess(r -> this.assertRow(1, this::testComplete)));
+        this.await();
+    }
+
+    @Test
+    public void unprepared() {
+        CassandraClient unprepared = CassandraClient.createNonShared(vertx,
+                this.getConfig().put("prepared_statement_cache_size", 0));
+        // Without metadata, JSON values can only go to text columns
+        unprepared.execute("insert into codec_table (id, doc, created, data, lang) values (?, ?, ?, ?, ?)",
+                Arrays.asList(2, DOC, CREATED, DATA, Locale.CANADA_FRENCH), this.onSuccess(r -> {
+                    unprepared.close();
+                    this.read(2, "doc", JsonObject.class, doc -> {
+                        this.assertEquals(DOC, doc);
+                        this.read(2, "lang", Locale.class, lang -> {
+                            this.assertEquals(Locale.CANADA_FRENCH, lang);
+                            this.testComplete();
+                        });
+                    });
+                }));
+        this.await();
+    }
+
+    @Test
+    public void driverTypesStillBind() {
+        cassandra.execute(INSERT, Arrays.asList(3, "{\"name\":\"one\"}", Collections.singletonMap("a", 1),
+                Collections.singleton("x"), new Date(CREATED.toEpochMilli()), ByteBuffer.wrap(new byte[1]),
+                "fr-CA"), this.onSuccess(r -> {
+                    cassandra.execute("select doc, created from codec_table where id = 3", this.onSuccess(rs -> {
+                        this.assertEquals("{\"name\":\"one\"}", rs.getString(0, 0));
+                        this.assertEquals(new Date(CREATED.toEpochMilli()), rs.getObject(0, 1));
+                        this.testComplete();
+                    }));
+                }));
+        this.await();
+    }
+
+    @Test
+    public void javaTime() {
+        ZonedDateTime created = CREATED.atZone(ZoneOffset.UTC);
+        cassandra.execute("insert into codec_table (id, created) values (?, ?)", Arrays.asList(4, created),
+                this.onSuccess(r -> {
+                    this.read(4, "created", ZonedDateTime.class, value -> {
+                        this.assertEquals(created, value);
+                        this.testComplete();
+                    });
+                }));
+        this.await();
+    }
+
+    @Test
+    public void nullColumn() {
+        cassandra.execute("insert into codec_table (id) values (?)", Arrays.asList(5), this.onSuccess(r -> {
+            this.read(5, "doc", JsonObject.class, doc -> {
+                this.assertNull(doc);
+                this.testComplete();
+            });
+        }));
+        this.await();
+    }
+
+    @Test
+    public void resultSetGetters() {
+        cassandra.execute(INSERT, Arrays.asList(6, DOC, ATTRS, TAGS, CREATED, DATA, Locale.CANADA_FRENCH),
+                this.onSuccess(r -> {
+                    String select = "select doc, attrs, tags, created, data, lang from codec_table where id = 6";
+                    cassandra.execute(select, this.onSuccess(rows -> {
+                        this.assertCells(rows);
+                        ExecutionOptions lazy = new ExecutionOptions().setResultMode(ResultMode.LAZY);
+                        cassandra.executeWithOptions(select, lazy, this.onSuccess(cells -> {
+                            this.assertCells(cells);
+                            this.testComplete();
+                        }));
+                    }));
+                }));
+        this.await();
+    }
+
+    @Test
+    public void mismatchedCodecValueFails() {
+        // A text value does not fit the map<text, int> column
+        JsonObject attrs = new JsonObject().put("a", "one");
+        cassandra.execute("insert into codec_table (id, attrs) values (?, ?)", Arrays.asList(7, attrs),
+                this.onFailure(t -> {
+                    this.assertTrue(t.getMessage(), t.getMessage().contains("attrs"));
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void codecValueIsNeverSentUnprepared() {
+        // The String id cannot be bound, but the statement must not fall back
+        // to sending the JSON attributes as text
+        cassandra.execute("insert into codec_table (id, doc) values (?, ?)", Arrays.asList("8", DOC),
+                this.onFailure(t -> {
+                    this.assertTrue(t.getMessage(), t.getMessage().startsWith("Invalid values for"));
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    private void assertCells(ResultSet rs) {
+        this.assertEquals(DOC, rs.get(0, 0, JsonObject.class));
+        this.assertEquals(DOC.encode(), rs.get(0, 0, String.class));
+        this.assertEquals(ATTRS, rs.get(0, 1, JsonObject.class));
+        this.assertEquals(TAGS, rs.get(0, 2, JsonArray.class));
+        this.assertEquals(CREATED, rs.get(0, 3, Instant.class));
+        this.assertEquals(DATA, rs.get(0, 4, Buffer.class));
+        this.assertEquals(Locale.CANADA_FRENCH, rs.get(0, 5, Locale.class));
+    }
+
+    private void assertRow(int id, Runnable then) {
+        this.read(id, "doc", JsonObject.class, doc -> {
+            this.assertEquals(DOC, doc);
+            this.read(id, "attrs", JsonObject.class, attrs -> {
+                this.assertEquals(ATTRS, attrs);
+                this.read(id, "tags", JsonArray.class, tags -> {
+                    this.assertEquals(TAGS, tags);
+                    this.read(id, "created", Instant.class, created -> {
+                        this.assertEquals(CREATED, created);
+                        this.read(id, "data", Buffer.class, data -> {
+                            this.assertEquals(DATA, data);
+                            this.read(id, "lang", Locale.class, lang -> {
+                                this.assertEquals(Locale.CANADA_FRENCH, lang);
+                                then.run();
+                            });
+                        });
+                    });
+                });
+            });
+        });
+    }
+
+    private <T> void read(int id, String column, Class<T> type, Consumer<T> consumer) {
+        RowMapper<T> mapper = new RowMapper<T>() {
+
+            @Override
+            public List<String> columns() {
+                return Collections.singletonList(column);
+            }
+
+            @Override
+            public T map(Row row, int[] indexes) {
+                return cassandra.codecs().get(row, indexes[0], type);
+            }
+
+            @Override
+            public List<Object> bind(T value) {
+                throw new UnsupportedOperationException();
+            }
+        };
+
+        cassandra.query("select " + column + " from codec_table where id = ?", Arrays.asList(id), mapper,
+                this.onSuccess(values -> {
+                    this.assertEquals(1, values.size());
+                    consumer.accept(values.get(0));
+                }));
+    }
+
+}
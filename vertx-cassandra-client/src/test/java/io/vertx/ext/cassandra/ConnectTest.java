@@ -0,0 +1,76 @@
+package io.vertx.ext.cassandra;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class ConnectTest extends CassandraTestBase {
+
+    @Override
+    protected JsonObject getConfig() {
+        return super.getConfig().put("warm_up", new JsonObject()
+                .put("statements", new JsonArray().add("select * from system.local where key = ?"))
+                .put("connections", 1));
+    }
+
+    @Test
+    public void connectWarmsUp() {
+        CassandraClient client = CassandraClient.createNonShared(vertx, this.getConfig());
+        client.connect(this.onSuccess(v -> {
+            this.assertEquals(1, client.preparedStatementCacheStats().getSize());
+            client.close();
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void requestsWaitForTheSession() {
+        CassandraClient client = CassandraClient.createNonShared(vertx, this.getConfig());
+        AtomicInteger pending = new AtomicInteger(10);
+        // None of these can block the event loop while the session connects
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 10; i++) {
+                client.execute("select * from system.local", this.onSuccess(r -> {
+                    this.assertEquals(1, r.size());
+                    if (pending.decrementAndGet() == 0) {
+                        client.close();
+                        this.testComplete();
+                    }
+                }));
+            }
+        });
+        this.await();
+    }
+
+    @Test
+    public void connectFailure() {
+        JsonObject config = super.getConfig().put("keyspace", "does_not_exist");
+        CassandraClient client = CassandraClient.createNonShared(vertx, config);
+        client.connect(this.onFailure(t -> {
+            client.close();
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void failedWarmUpIsRetried() {
+        JsonObject config = super.getConfig().put("warm_up",
+                new JsonObject().put("statements", new JsonArray().add("select * from warm_up_table")));
+        CassandraClient client = CassandraClient.createNonShared(vertx, config);
+        client.connect(this.onFailure(t -> {
+            cassandra.execute("create table warm_up_table (id int primary key)", this.onSuccess(r -> {
+                client.connect(this.onSuccess(v -> {
+                    client.close();
+                    this.testComplete();
+                }));
+            }));
+        }));
+        this.await();
+    }
+
+}
@@ -15,6 +15,8 @@ import java.util.function.Consumer;
 
 import org.junit.Test;
 
+import io.vertx.core.buffer.Buffer;
+
 public class DataTypesTest extends CassandraTestBase {
 
     private static final List<String> DATA_TYPES = Arrays.asList("ascii", "bigint", "blob", "boolean", "decimal",
@@ -105,6 +107,18 @@ public class DataTypesTest extends CassandraTestBase {
         this.await();
     }
 
+    @Test
+    public void blobBuffer() {
+        String dataType = "blob";
+        Buffer value = Buffer.buffer(new byte[] { 0, 1, 2, (byte) 0xff });
+        this.setColumnParam(dataType, value);
+        this.updateAndSelect(r -> {
+            this.assertEquals(value, r.getBuffer(0, DATA_TYPES.indexOf(dataType)));
+            this.testComplete();
+        });
+        this.await();
+    }
+
     @Test
     public void booleanType() {
         String dataType = "boolean";
@@ -8,6 +8,8 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
+import io.vertx.core.json.JsonObject;
+
 public class ExecutionOptionsTest extends CassandraTestBase {
 
     private void insertSomeValues(int rows) throws InterruptedException {
@@ -50,6 +52,54 @@ public class ExecutionOptionsTest extends CassandraTestBase {
         this.await();
     }
 
+    @Test
+    public void fetchTrace() throws InterruptedException {
+        this.insertSomeValues(1);
+
+        ExecutionOptions options = new ExecutionOptions().setTracing(true);
+
+        cassandra.executeWithOptions("select * from dummy", options, this.onSuccess(r -> {
+            String traceId = r.getExecutionInfo().getQueryTrace();
+            cassandra.fetchTrace(traceId, this.onSuccess(trace -> {
+                this.assertEquals(traceId, trace.getTraceId());
+                this.assertNotNull(trace.getCoordinator());
+                this.assertFalse(trace.getEvents().isEmpty());
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void tracingSampled() throws InterruptedException {
+        this.insertSomeValues(1);
+
+        cassandra.executeWithOptions("select * from dummy", new ExecutionOptions().setTracingSampleRate(1),
+                this.onSuccess(r -> {
+                    this.assertNotNull(r.getExecutionInfo().getQueryTrace());
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void tracingSampleRateIsValidated() {
+        this.assertEquals(0.5, new ExecutionOptions(new JsonObject().put("tracingSampleRate", 0.5))
+                .getTracingSampleRate(), 0d);
+        try {
+            new ExecutionOptions(new JsonObject().put("tracingSampleRate", 5));
+            this.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new ExecutionOptions(new JsonObject().put("tracingSampleRate", -1));
+            this.fail("expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     @Test
     public void tracingOff() throws InterruptedException {
         this.insertSomeValues(1);
@@ -0,0 +1,105 @@
+package io.vertx.ext.cassandra;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class JsonResultTest extends CassandraTestBase {
+
+    private static final String SELECT = "select id, name, uid, ts, addr, big, price, data, tags, scores from json_table";
+
+    private static final UUID ID = UUID.fromString("a4a70900-24e1-11df-8924-001ff3591711");
+    private static final Date TIMESTAMP = new Date(1445000000123L);
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table json_table (id int primary key, name text, uid uuid, ts timestamp, "
+                    + "addr inet, big varint, price decimal, data blob, tags list<text>, scores map<text, int>)", h);
+        });
+        this.executeAndWait(2, h -> {
+            cassandra.execute("insert into json_table (id, name, uid, ts, addr, big, price, data, tags, scores) "
+                    + "values (1, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    Arrays.asList("one", ID, TIMESTAMP, InetAddress.getLoopbackAddress(),
+                            new BigInteger("123456789012345678901234567890"), new BigDecimal("12.345"),
+                            ByteBuffer.wrap(new byte[] { 0, 1, 2, (byte) 0xff }), Arrays.asList("a", "b"),
+                            Collections.singletonMap("x", 7)), h);
+            cassandra.execute("insert into json_table (id) values (2)", h);
+        });
+    }
+
+    @Test
+    public void objects() {
+        cassandra.queryJson(SELECT + " where id = 1", Collections.emptyList(), JsonFormat.OBJECTS,
+                this.onSuccess(json -> {
+                    JsonArray rows = new JsonArray(json.toString());
+                    this.assertEquals(1, rows.size());
+                    JsonObject row = rows.getJsonObject(0);
+                    this.assertEquals(1, (int) row.getInteger("id"));
+                    this.assertEquals("one", row.getString("name"));
+                    this.assertEquals(ID.toString(), row.getString("uid"));
+                    this.assertEquals(TIMESTAMP.toInstant().toString(), row.getString("ts"));
+                    this.assertEquals(InetAddress.getLoopbackAddress().getHostAddress(), row.getString("addr"));
+                    this.assertEquals(Base64.getEncoder().encodeToString(new byte[] { 0, 1, 2, (byte) 0xff }),
+                            row.getString("data"));
+                    this.assertEquals(new JsonArray().add("a").add("b"), row.getJsonArray("tags"));
+                    this.assertEquals(new JsonObject().put("x", 7), row.getJsonObject("scores"));
+                    // Numbers are written exactly, not through double
+                    this.assertTrue(json.toString().contains("\"big\":123456789012345678901234567890"));
+                    this.assertTrue(json.toString().contains("\"price\":12.345"));
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void arraysAndNulls() {
+        cassandra.queryJson(SELECT + " where id = 2", Collections.emptyList(), JsonFormat.ARRAYS,
+                this.onSuccess(json -> {
+                    this.assertEquals("[[2,null,null,null,null,null,null,null,null,null]]", json.toString());
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void sameAsResultSet() {
+        cassandra.execute(SELECT, this.onSuccess(r -> {
+            cassandra.queryJson(SELECT, Collections.emptyList(), JsonFormat.ARRAYS, this.onSuccess(json -> {
+                JsonArray rows = new JsonArray(json.toString());
+                this.assertEquals(r.size(), rows.size());
+                for (int i = 0; i < r.size(); i++) {
+                    this.assertEquals(r.getObject(i, 0), rows.getJsonArray(i).getInteger(0));
+                    this.assertEquals(r.getString(i, 1), rows.getJsonArray(i).getString(1));
+                }
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void decodeOnIoThread() {
+        ExecutionOptions options = new ExecutionOptions().setDecodeMode(DecodeMode.IO_THREAD);
+        cassandra.queryJsonWithOptions(SELECT, Collections.emptyList(), options, JsonFormat.OBJECTS,
+                this.onSuccess(json -> {
+                    this.assertEquals(2, new JsonArray(json.toString()).size());
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+}
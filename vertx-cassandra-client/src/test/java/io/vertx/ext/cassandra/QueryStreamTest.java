@@ -0,0 +1,69 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class QueryStreamTest extends CassandraTestBase {
+
+    private static final int NUM_ROWS = 95;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table stream_table (pk int, val int, primary key(pk))", h);
+        });
+        this.executeAndWait(NUM_ROWS, h -> {
+            for (int i = 0; i < NUM_ROWS; i++) {
+                cassandra.execute("insert into stream_table (pk, val) values (?, ?)", Arrays.asList(i, i), h);
+            }
+        });
+    }
+
+    @Test
+    public void allPages() {
+        ExecutionOptions options = new ExecutionOptions().setFetchSize(10);
+        AtomicInteger count = new AtomicInteger();
+
+        cassandra.queryStreamWithOptions("select pk, val from stream_table", Arrays.asList(), options,
+                this.onSuccess(stream -> {
+                    this.assertEquals(Arrays.asList("pk", "val"), stream.columns());
+                    stream.exceptionHandler(t -> this.fail(t.getMessage()));
+                    stream.endHandler(v -> {
+                        this.assertEquals(NUM_ROWS, count.get());
+                        this.testComplete();
+                    });
+                    stream.handler(row -> {
+                        this.assertEquals(row.get(0), row.get(1));
+                        count.incrementAndGet();
+                    });
+                }));
+        this.await();
+    }
+
+    @Test
+    public void pauseAndResume() {
+        ExecutionOptions options = new ExecutionOptions().setFetchSize(10);
+        AtomicInteger count = new AtomicInteger();
+
+        cassandra.queryStreamWithOptions("select pk, val from stream_table", Arrays.asList(), options,
+                this.onSuccess(stream -> {
+                    stream.exceptionHandler(t -> this.fail(t.getMessage()));
+                    stream.endHandler(v -> {
+                        this.assertEquals(NUM_ROWS, count.get());
+                        this.testComplete();
+                    });
+                    stream.handler(row -> {
+                        if (count.incrementAndGet() % 25 == 0) {
+                            stream.pause();
+                            vertx.setTimer(10, t -> stream.resume());
+                        }
+                    });
+                }));
+        this.await();
+    }
+
+}
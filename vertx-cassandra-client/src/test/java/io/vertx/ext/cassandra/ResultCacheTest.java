@@ -0,0 +1,167 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.impl.ResultCache;
+
+public class ResultCacheTest extends CassandraTestBase {
+
+    private static final String SELECT = "select val from cached where pk = ?";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table cached (pk int, val int, primary key(pk))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("insert into cached (pk, val) values (1, 1)", h);
+        });
+    }
+
+    @Override
+    protected JsonObject getConfig() {
+        return super.getConfig().put("result_cache", new JsonObject().put("max_bytes", 1024 * 1024));
+    }
+
+    private void update(int value, Runnable next) {
+        cassandra.execute("update cached set val = ? where pk = 1", Arrays.asList(value),
+                this.onSuccess(r -> next.run()));
+    }
+
+    @Test
+    public void cacheHit() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            this.assertEquals(1, r.getInt(0, 0));
+            this.update(2, () -> {
+                cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r2 -> {
+                    // Served from the cache, so the update is not visible
+                    this.assertEquals(1, r2.getInt(0, 0));
+                    this.assertNotSame(r, r2);
+                    CacheStats stats = cassandra.resultCacheStats();
+                    this.assertEquals(1L, stats.getHits());
+                    this.assertEquals(1L, stats.getMisses());
+                    this.testComplete();
+                }));
+            });
+        }));
+        this.await();
+    }
+
+    @Test
+    public void differentParametersMiss() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            cassandra.executeWithOptions(SELECT, Arrays.asList(2), options, this.onSuccess(r2 -> {
+                this.assertEquals(0, r2.size());
+                this.assertEquals(2, cassandra.resultCacheStats().getSize());
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void expiry() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(50);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            this.update(2, () -> vertx.setTimer(200, id -> {
+                cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r2 -> {
+                    this.assertEquals(2, r2.getInt(0, 0));
+                    this.testComplete();
+                }));
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void invalidate() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            this.update(2, () -> {
+                cassandra.invalidateResultCache(SELECT);
+                cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r2 -> {
+                    this.assertEquals(2, r2.getInt(0, 0));
+                    this.testComplete();
+                }));
+            });
+        }));
+        this.await();
+    }
+
+    @Test
+    public void notCachedWithoutTtl() throws InterruptedException {
+        cassandra.execute(SELECT, Arrays.asList(1), this.onSuccess(r -> {
+            this.assertEquals(0, cassandra.resultCacheStats().getSize());
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void optionsArePartOfTheKey() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000);
+        ExecutionOptions quorum = new ExecutionOptions().setCacheTtl(60000)
+                .setConsistencyLevel(ConsistencyLevel.QUORUM);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            cassandra.executeWithOptions(SELECT, Arrays.asList(1), quorum, this.onSuccess(r2 -> {
+                this.assertEquals(0L, cassandra.resultCacheStats().getHits());
+                this.assertEquals(2, cassandra.resultCacheStats().getSize());
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void pagesAndLazyResultsAreNotCached() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000).setResultMode(ResultMode.LAZY);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            this.assertEquals(0, cassandra.resultCacheStats().getSize());
+            this.assertFalse(ResultCache.isCacheable(SELECT,
+                    new ExecutionOptions().setPagingState("001000020000")));
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void hitsDoNotShareRows() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setCacheTtl(60000);
+
+        cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r -> {
+            r.getValues().get(0).set(0, 42);
+            cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r2 -> {
+                this.assertEquals(1, r2.getInt(0, 0));
+                r2.getValues().clear();
+                cassandra.executeWithOptions(SELECT, Arrays.asList(1), options, this.onSuccess(r3 -> {
+                    this.assertEquals(1, r3.size());
+                    this.testComplete();
+                }));
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void statementsThatAreNotPlainSelects() {
+        ExecutionOptions options = new ExecutionOptions();
+        this.assertTrue(ResultCache.isCacheable("/* cached */ select * from cached", options));
+        this.assertFalse(ResultCache.isCacheable("selectivity", options));
+        this.assertFalse(ResultCache.isCacheable("select now() from system.local", options));
+        this.assertFalse(ResultCache.isCacheable("update cached set val = 1 where pk = 1", options));
+    }
+
+}
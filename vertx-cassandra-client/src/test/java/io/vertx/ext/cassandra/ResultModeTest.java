@@ -0,0 +1,127 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+import java.util.Date;
+
+import org.junit.Test;
+
+import io.vertx.core.Context;
+
+public class ResultModeTest extends CassandraTestBase {
+
+    private static final String SELECT = "select pk, big, dbl, flag, ts, name from typed_table where part = 0";
+    private static final int NUM_ROWS = 100;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table typed_table (part int, pk int, big bigint, dbl double, flag boolean, "
+                    + "ts timestamp, name text, primary key ((part), pk))", h);
+        });
+        this.executeAndWait(NUM_ROWS, h -> {
+            for (int i = 0; i < NUM_ROWS; i++) {
+                if (i % 10 == 0) {
+                    cassandra.execute("insert into typed_table (part, pk) values (0, ?)", Arrays.asList(i), h);
+                } else {
+                    cassandra.execute(
+                            "insert into typed_table (part, pk, big, dbl, flag, ts, name) values (0, ?, ?, ?, ?, ?, ?)",
+                            Arrays.asList(i, i * 1000L, i / 2d, i % 2 == 0, new Date(i), "row" + i), h);
+                }
+            }
+        });
+    }
+
+    @Test
+    public void columnarAccessors() {
+        ExecutionOptions options = new ExecutionOptions().setResultMode(ResultMode.COLUMNAR);
+
+        cassandra.executeWithOptions(SELECT, options, this.onSuccess(r -> {
+            this.assertEquals(NUM_ROWS, r.size());
+            this.assertEquals(Arrays.asList("pk", "big", "dbl", "flag", "ts", "name"), r.getColumnNames());
+            for (int i = 0; i < NUM_ROWS; i++) {
+                this.assertEquals(i, r.getInt(i, 0));
+                if (i % 10 == 0) {
+                    for (int c = 1; c < 6; c++) {
+                        this.assertTrue(r.isNull(i, c));
+                    }
+                    this.assertEquals(0L, r.getLong(i, 1));
+                } else {
+                    this.assertEquals(i * 1000L, r.getLong(i, 1));
+                    this.assertEquals(i / 2d, r.getDouble(i, 2), 0d);
+                    this.assertEquals(i % 2 == 0, r.getBoolean(i, 3));
+                    this.assertEquals(new Date(i), r.getObject(i, 4));
+                    this.assertEquals("row" + i, r.getString(i, 5));
+                }
+            }
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void sameValuesAsRows() {
+        cassandra.execute(SELECT, this.onSuccess(rows -> {
+            ExecutionOptions options = new ExecutionOptions().setResultMode(ResultMode.COLUMNAR);
+            cassandra.executeWithOptions(SELECT, options, this.onSuccess(columns -> {
+                this.assertEquals(rows.getValues(), columns.getValues());
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void lazyAccessors() {
+        ExecutionOptions options = new ExecutionOptions().setResultMode(ResultMode.LAZY);
+
+        cassandra.executeWithOptions(SELECT, options, this.onSuccess(r -> {
+            this.assertEquals(NUM_ROWS, r.size());
+            for (int i = 0; i < NUM_ROWS; i++) {
+                this.assertEquals(i, r.getInt(i, 0));
+                this.assertEquals(i % 10 == 0, r.isNull(i, 5));
+                if (i % 10 != 0) {
+                    this.assertEquals(i * 1000L, r.getLong(i, 1));
+                    this.assertEquals("row" + i, r.getString(i, 5));
+                    this.assertSame(r.getObject(i, 5), r.getObject(i, 5));
+                }
+            }
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void lazySameValuesAsRows() {
+        cassandra.execute(SELECT, this.onSuccess(rows -> {
+            ExecutionOptions options = new ExecutionOptions().setResultMode(ResultMode.LAZY);
+            cassandra.executeWithOptions(SELECT, options, this.onSuccess(lazy -> {
+                this.assertEquals(rows.getValues(), lazy.getValues());
+                this.testComplete();
+            }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void workerDecode() {
+        cassandra.execute(SELECT, this.onSuccess(rows -> {
+            ExecutionOptions options = new ExecutionOptions().setDecodeMode(DecodeMode.WORKER).setDecodeThreshold(10);
+            Context context = vertx.getOrCreateContext();
+            context.runOnContext(v -> {
+                cassandra.executeWithOptions(SELECT, options, this.onSuccess(parallel -> {
+                    this.assertSame(context, vertx.getOrCreateContext());
+                    this.assertEquals(rows.getValues(), parallel.getValues());
+                    options.setResultMode(ResultMode.COLUMNAR);
+                    cassandra.executeWithOptions(SELECT, options, this.onSuccess(columns -> {
+                        this.assertEquals(rows.getValues(), columns.getValues());
+                        this.testComplete();
+                    }));
+                }));
+            });
+        }));
+        this.await();
+    }
+
+}
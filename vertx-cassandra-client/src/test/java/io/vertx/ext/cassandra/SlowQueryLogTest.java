@@ -0,0 +1,129 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Row;
+
+import io.vertx.core.json.JsonObject;
+
+public class SlowQueryLogTest extends CassandraTestBase {
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table slow (pk int, val int, primary key(pk))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("insert into slow (pk, val) values (1, 1)", h);
+        });
+    }
+
+    @Override
+    protected JsonObject getConfig() {
+        // Every execution of the named query is slow enough to be logged
+        return super.getConfig().put("slow_query_log",
+                new JsonObject().put("capacity", 2).put("statements", new JsonObject().put("always", 0)));
+    }
+
+    @Test
+    public void recordsSlowQueries() {
+        String statement = "select * from slow where pk = ?";
+        ExecutionOptions options = new ExecutionOptions().setQueryName("always");
+
+        cassandra.executeWithOptions(statement, Arrays.asList(1), options, this.onSuccess(r -> {
+            List<SlowQuery> slowQueries = cassandra.slowQueries();
+            this.assertEquals(1, slowQueries.size());
+
+            SlowQuery query = slowQueries.get(0);
+            this.assertEquals(statement, query.getStatement());
+            this.assertEquals(1, query.getParameterCount());
+            this.assertEquals(1, query.getRows());
+            this.assertNotNull(query.getCoordinator());
+            this.assertNotNull(query.getAchievedConsistencyLevel());
+            this.assertTrue(query.getLatencyMicros() > 0);
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void fastQueriesAreNotRecorded() {
+        cassandra.execute("select * from slow", this.onSuccess(r -> {
+            this.assertTrue(cassandra.slowQueries().isEmpty());
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void mappedQueriesAreRecorded() {
+        RowMapper<Integer> mapper = new RowMapper<Integer>() {
+
+            @Override
+            public List<String> columns() {
+                return Arrays.asList("val");
+            }
+
+            @Override
+            public Integer map(Row row, int[] indexes) {
+                return row.getInt(indexes[0]);
+            }
+
+            @Override
+            public List<Object> bind(Integer value) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        // Decoded off the event loop, as the page is above the threshold
+        ExecutionOptions options = new ExecutionOptions().setQueryName("always").setDecodeMode(DecodeMode.WORKER)
+                .setDecodeThreshold(0);
+
+        cassandra.queryWithOptions("select val from slow where pk = ?", Arrays.asList(1), options, mapper,
+                this.onSuccess(values -> {
+                    this.assertEquals(Arrays.asList(1), values);
+                    List<SlowQuery> slowQueries = cassandra.slowQueries();
+                    this.assertEquals(1, slowQueries.size());
+                    this.assertEquals(1, slowQueries.get(0).getRows());
+                    this.assertNotNull(slowQueries.get(0).getCoordinator());
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void jsonQueriesAreRecorded() {
+        ExecutionOptions options = new ExecutionOptions().setQueryName("always");
+
+        cassandra.queryJsonWithOptions("select val from slow where pk = ?", Arrays.asList(1), options,
+                JsonFormat.ARRAYS, this.onSuccess(json -> {
+                    List<SlowQuery> slowQueries = cassandra.slowQueries();
+                    this.assertEquals(1, slowQueries.size());
+                    this.assertEquals(1, slowQueries.get(0).getRows());
+                    this.assertNotNull(slowQueries.get(0).getCoordinator());
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
+    @Test
+    public void ringBufferKeepsTheLatest() throws InterruptedException {
+        ExecutionOptions options = new ExecutionOptions().setQueryName("always");
+        for (int i = 0; i < 3; i++) {
+            int pk = i;
+            this.executeAndWait(1, h -> {
+                cassandra.executeWithOptions("select * from slow where pk = " + pk, options, h);
+            });
+        }
+
+        List<SlowQuery> slowQueries = cassandra.slowQueries();
+        this.assertEquals(2, slowQueries.size());
+        this.assertEquals("select * from slow where pk = 1", slowQueries.get(0).getStatement());
+        this.assertEquals("select * from slow where pk = 2", slowQueries.get(1).getStatement());
+    }
+
+}
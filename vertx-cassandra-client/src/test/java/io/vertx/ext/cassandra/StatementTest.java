@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.junit.Test;
 
+import io.vertx.core.json.JsonObject;
+
 public class StatementTest extends CassandraTestBase {
 
     private static final String CREATE_SIMPLE_TABLE = "create table simple_table (pk varchar, ck int, primary key ((pk), ck))";
@@ -85,6 +87,45 @@ public class StatementTest extends CassandraTestBase {
         this.await();
     }
 
+    @Test
+    public void preparedStatementReuse() throws InterruptedException {
+        String insert = "insert into simple_table (pk, ck) values (?, ?)";
+
+        this.executeAndWait(2, h -> {
+            cassandra.execute(insert, Arrays.asList("42", 1), h);
+            cassandra.execute(insert, Arrays.asList("42", 2), h);
+        });
+
+        CacheStats stats = cassandra.preparedStatementCacheStats();
+        this.assertEquals(1, stats.getMisses());
+        this.assertEquals(1, stats.getHits());
+        this.assertEquals(1, stats.getSize());
+
+        cassandra.execute("select ck from simple_table where pk = ?", Arrays.asList("42"), this.onSuccess(result -> {
+            this.assertEquals(2, result.size());
+            this.testComplete();
+        }));
+        this.await();
+    }
+
+    @Test
+    public void statementMetrics() throws InterruptedException {
+        this.insertValues();
+
+        ExecutionOptions options = new ExecutionOptions().setQueryName("by-partition");
+        cassandra.executeWithOptions("select * from simple_table where pk = ?", Arrays.asList("1"), options,
+                this.onSuccess(result -> {
+                    JsonObject metrics = cassandra.metrics();
+                    JsonObject statement = metrics.getJsonObject("statements").getJsonObject("by-partition");
+                    this.assertEquals(1L, (long) statement.getLong("count"));
+                    this.assertEquals(10L, (long) statement.getLong("rows"));
+                    this.assertEquals(1L, (long) statement.getJsonObject("latency").getLong("count"));
+                    this.assertEquals(0, (int) metrics.getInteger("inFlight"));
+                    this.testComplete();
+                }));
+        this.await();
+    }
+
 }
 
 // - ResultSetSerialization
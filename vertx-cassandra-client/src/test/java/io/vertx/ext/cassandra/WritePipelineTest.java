@@ -0,0 +1,139 @@
+package io.vertx.ext.cassandra;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class WritePipelineTest extends CassandraTestBase {
+
+    private static final int NUM_WRITES = 45;
+    private static final String INSERT = "insert into pipeline_table (pk, ck) values (?, ?)";
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table pipeline_table (pk int, ck int, primary key ((pk), ck))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table pipeline_other (pk int, ck int, primary key ((pk), ck))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table pipeline_values (pk int, ck int, val int, primary key ((pk), ck))", h);
+        });
+        this.executeAndWait(1, h -> {
+            cassandra.execute("create table pipeline_counters (pk int, ck int, c counter, primary key ((pk), ck))",
+                    h);
+        });
+        // The pipeline reads table metadata from the connected session
+        this.executeAndWait(1, h -> {
+            cassandra.execute("select * from pipeline_table", h);
+        });
+    }
+
+    private long count(String name) {
+        JsonObject statement = cassandra.metrics().getJsonObject("statements").getJsonObject(name);
+        return statement == null ? 0 : statement.getLong("count");
+    }
+
+    @Test
+    public void writesAreCoalesced() {
+        CassandraWritePipeline pipeline = cassandra
+                .createWritePipeline(new WritePipelineOptions().setWindow(20).setMaxBatchSize(10));
+        AtomicInteger completed = new AtomicInteger();
+
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < NUM_WRITES; i++) {
+                pipeline.write(INSERT, Arrays.asList(i % 3, i), this.onSuccess(r -> {
+                    if (completed.incrementAndGet() == NUM_WRITES) {
+                        pipeline.close();
+                        long batches = this.count("BATCH UNLOGGED");
+                        this.assertTrue(batches > 0);
+                        this.assertTrue(batches + this.count(INSERT) < NUM_WRITES);
+                        cassandra.execute("select ck from pipeline_table where pk = ?", Arrays.asList(1),
+                                this.onSuccess(result -> {
+                                    this.assertEquals(NUM_WRITES / 3, result.size());
+                                    this.testComplete();
+                                }));
+                    }
+                }));
+            }
+        });
+        this.await();
+    }
+
+    @Test
+    public void tablesAreNotMerged() {
+        CassandraWritePipeline pipeline = cassandra
+                .createWritePipeline(new WritePipelineOptions().setWindow(20).setMaxBatchSize(10));
+        AtomicInteger completed = new AtomicInteger();
+
+        vertx.runOnContext(v -> {
+            pipeline.write(INSERT, Arrays.asList(1, 1), this.onSuccess(r -> {
+                if (completed.incrementAndGet() == 2) {
+                    this.assertEquals(0L, this.count("BATCH UNLOGGED"));
+                    this.testComplete();
+                }
+            }));
+            pipeline.write("insert into pipeline_other (pk, ck) values (?, ?)", Arrays.asList(1, 1),
+                    this.onSuccess(r -> {
+                        if (completed.incrementAndGet() == 2) {
+                            this.assertEquals(0L, this.count("BATCH UNLOGGED"));
+                            this.testComplete();
+                        }
+                    }));
+        });
+        this.await();
+    }
+
+    @Test
+    public void laterWriteToTheSameRowWins() {
+        CassandraWritePipeline pipeline = cassandra
+                .createWritePipeline(new WritePipelineOptions().setWindow(20).setMaxBatchSize(10));
+        String update = "insert into pipeline_values (pk, ck, val) values (?, ?, ?)";
+
+        vertx.runOnContext(v -> {
+            pipeline.write(update, Arrays.asList(1, 1, 2), this.onSuccess(r -> {
+            }));
+            pipeline.write(update, Arrays.asList(1, 1, 1), this.onSuccess(r -> {
+                cassandra.execute("select val from pipeline_values where pk = 1 and ck = 1",
+                        this.onSuccess(result -> {
+                            this.assertEquals(1, result.getInt(0, 0));
+                            this.testComplete();
+                        }));
+            }));
+        });
+        this.await();
+    }
+
+    @Test
+    public void countersUseCounterBatches() {
+        CassandraWritePipeline pipeline = cassandra
+                .createWritePipeline(new WritePipelineOptions().setWindow(20).setMaxBatchSize(10));
+        String increment = "update pipeline_counters set c = c + ? where pk = ? and ck = ?";
+        AtomicInteger completed = new AtomicInteger();
+
+        vertx.runOnContext(v -> {
+            for (int i = 0; i < 5; i++) {
+                pipeline.write(increment, Arrays.asList(1L, 1, i), this.onSuccess(r -> {
+                    if (completed.incrementAndGet() == 5) {
+                        this.assertEquals(0L, this.count("BATCH UNLOGGED"));
+                        this.assertTrue(this.count("BATCH COUNTER") > 0);
+                        this.testComplete();
+                    }
+                }));
+            }
+        });
+        this.await();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void jsonOptionsAreValidated() {
+        new WritePipelineOptions(new JsonObject().put("window", 0));
+    }
+
+}
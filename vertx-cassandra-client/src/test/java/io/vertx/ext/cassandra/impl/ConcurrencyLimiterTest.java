@@ -0,0 +1,146 @@
+package io.vertx.ext.cassandra.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.exceptions.NoHostAvailableException;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.SettableFuture;
+
+public class ConcurrencyLimiterTest {
+
+    private final List<SettableFuture<String>> started = new ArrayList<>();
+
+    private ListenableFuture<String> submit(ConcurrencyLimiter limiter) {
+        return this.submit(limiter, MoreExecutors.sameThreadExecutor());
+    }
+
+    private ListenableFuture<String> submit(ConcurrencyLimiter limiter, Executor executor) {
+        return limiter.submit(executor, () -> {
+            SettableFuture<String> result = SettableFuture.create();
+            started.add(result);
+            return result;
+        });
+    }
+
+    @Test
+    public void queueAndReject() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.AIMD, 2, 2, 2, 1, 0.9, 1000,
+                0.2);
+
+        this.submit(limiter);
+        this.submit(limiter);
+        ListenableFuture<String> queued = this.submit(limiter);
+        ListenableFuture<String> rejected = this.submit(limiter);
+
+        assertEquals(2, started.size());
+        assertTrue(rejected.isDone());
+        try {
+            rejected.get();
+            fail("expected RejectedExecutionException");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+
+        started.get(0).set("first");
+        assertEquals(3, started.size());
+        assertFalse(queued.isDone());
+
+        started.get(2).set("third");
+        assertEquals("third", queued.get());
+        assertEquals(1, limiter.stats().getLong("rejected").longValue());
+    }
+
+    @Test
+    public void queuedStartsOnTheSubmittersExecutor() throws Exception {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.AIMD, 1, 1, 1, 1, 0.9, 1000,
+                0.2);
+        List<Runnable> deferred = new ArrayList<>();
+
+        this.submit(limiter);
+        ListenableFuture<String> queued = this.submit(limiter, deferred::add);
+
+        started.get(0).set("first");
+        assertEquals(1, started.size());
+        assertEquals(1, deferred.size());
+
+        deferred.get(0).run();
+        assertEquals(2, started.size());
+        started.get(1).set("second");
+        assertEquals("second", queued.get());
+    }
+
+    @Test
+    public void aimdBacksOffOnOverload() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.AIMD, 100, 10, 200, 0, 0.5,
+                1000, 0.2);
+
+        this.submit(limiter);
+        started.get(0).setException(new NoHostAvailableException(Collections.emptyMap()));
+        assertEquals(50, limiter.limit());
+    }
+
+    @Test
+    public void gradientStaysWithinBounds() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.GRADIENT, 16, 4, 32, 0, 0.9,
+                1000, 0.5);
+
+        for (int i = 0; i < 100; i++) {
+            this.submit(limiter);
+            started.get(i).set("ok");
+        }
+        assertTrue(limiter.limit() >= 4 && limiter.limit() <= 32);
+    }
+
+    @Test
+    public void aimdCutsOncePerCongestionEvent() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.AIMD, 100, 10, 200, 0, 0.5,
+                1000, 0.2);
+
+        // Three requests in flight together all time out
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(2);
+        limiter.sample(start, end, 3, true);
+        limiter.sample(start + 1, end + 1, 3, true);
+        limiter.sample(start + 2, end + 2, 3, true);
+        assertEquals(50, limiter.limit());
+
+        // A request started after the cut may cut again
+        limiter.sample(end + 10, end + 20, 1, true);
+        assertEquals(25, limiter.limit());
+    }
+
+    @Test
+    public void gradientForgetsOldMinimumLatency() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(ConcurrencyLimiter.Algorithm.GRADIENT, 100, 10, 200, 0,
+                0.9, 1000, 0.5);
+        long millis = TimeUnit.MILLISECONDS.toNanos(1);
+
+        // One lucky sample, then a steady, slower latency
+        limiter.sample(0, millis / 100, 100, false);
+        for (int i = 0; i < 2 * ConcurrencyLimiter.RTT_WINDOW; i++) {
+            limiter.sample(0, 10 * millis, 100, false);
+        }
+        int limit = limiter.limit();
+        // Once the steady latency is the minimum, the gradient is 1 and the
+        // limit grows again
+        for (int i = 0; i < 20; i++) {
+            limiter.sample(0, 10 * millis, 100, false);
+        }
+        assertTrue(limiter.limit() > limit);
+    }
+
+}
@@ -0,0 +1,149 @@
+package io.vertx.ext.cassandra.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import io.vertx.core.AbstractVerticle;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraClient;
+import io.vertx.test.core.VertxTestBase;
+
+// None of these connect: handles only contact Cassandra on the first request
+public class HandleLookupTest extends VertxTestBase {
+
+    private static final String HANDLES_MAP = "__vertx.CassandraClient.handles";
+
+    @Test
+    public void destroyedHandleIsNotRevived() {
+        AtomicInteger destroyed = new AtomicInteger();
+        CassandraHandle handle = new CassandraHandle(vertx, new JsonObject(), destroyed::incrementAndGet);
+
+        this.assertTrue(handle.tryAddReference());
+        this.assertTrue(handle.tryAddReference());
+        handle.decreaseReference();
+        this.assertFalse(handle.isDestroyed());
+        handle.decreaseReference();
+
+        this.assertTrue(handle.isDestroyed());
+        this.assertEquals(1, destroyed.get());
+        this.assertFalse(handle.tryAddReference());
+        this.assertEquals(1, destroyed.get());
+    }
+
+    @Test
+    public void closedSharedClientIsReplaced() {
+        CassandraClientImpl first = (CassandraClientImpl) CassandraClient.createShared(vertx, new JsonObject(),
+                "replaced");
+        CassandraHandle handle = first.handle();
+        first.close();
+        this.assertTrue(handle.isDestroyed());
+        this.assertNull(vertx.sharedData().getLocalMap(HANDLES_MAP).get("replaced"));
+
+        CassandraClientImpl second = (CassandraClientImpl) CassandraClient.createShared(vertx, new JsonObject(),
+                "replaced");
+        this.assertNotSame(handle, second.handle());
+        this.assertFalse(second.handle().isDestroyed());
+        second.close();
+    }
+
+    // Clients of one name are created and closed from many threads at once, so
+    // lookups race the last close of a handle and its removal from the map
+    @Test
+    public void concurrentLookupAndClose() throws Exception {
+        int threads = 8;
+        int iterations = 2000;
+        CyclicBarrier start = new CyclicBarrier(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < iterations; i++) {
+                        CassandraClientImpl client = (CassandraClientImpl) CassandraClient.createShared(vertx,
+                                new JsonObject(), "race");
+                        if (client.handle().isDestroyed()) {
+                            throw new AssertionError("Lookup returned a destroyed handle");
+                        }
+                        client.close();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+
+        this.awaitLatch(done);
+        if (failure.get() != null) {
+            throw new AssertionError(failure.get());
+        }
+        this.assertNull(vertx.sharedData().getLocalMap(HANDLES_MAP).get("race"));
+    }
+
+    @Test
+    public void sharedHandleSurvivesConcurrentClients() throws Exception {
+        CassandraClientImpl keepAlive = (CassandraClientImpl) CassandraClient.createShared(vertx, new JsonObject(),
+                "kept");
+        CassandraHandle handle = keepAlive.handle();
+
+        AtomicInteger otherHandles = new AtomicInteger();
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    CassandraClientImpl client = (CassandraClientImpl) CassandraClient.createShared(vertx,
+                            new JsonObject(), "kept");
+                    if (client.handle() != handle) {
+                        otherHandles.incrementAndGet();
+                    }
+                    client.close();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        this.assertEquals(0, otherHandles.get());
+        this.assertFalse(handle.isDestroyed());
+        keepAlive.close();
+        this.assertTrue(handle.isDestroyed());
+    }
+
+    @Test
+    public void metricsOutliveTheCreatingVerticle() {
+        JsonObject config = new JsonObject().put("metrics",
+                new JsonObject().put("publish_address", "cassandra.metrics").put("publish_period", 50));
+        AtomicBoolean received = new AtomicBoolean();
+        vertx.deployVerticle(new AbstractVerticle() {
+            @Override
+            public void start() {
+                CassandraClient.createShared(vertx, config, "published");
+            }
+        }, this.onSuccess(id -> {
+            CassandraClient remaining = CassandraClient.createShared(vertx, config, "published");
+            vertx.undeploy(id, this.onSuccess(v -> {
+                vertx.eventBus().<JsonObject> consumer("cassandra.metrics", message -> {
+                    if (received.compareAndSet(false, true)) {
+                        remaining.close();
+                        this.testComplete();
+                    }
+                });
+            }));
+        }));
+        this.await();
+    }
+
+}
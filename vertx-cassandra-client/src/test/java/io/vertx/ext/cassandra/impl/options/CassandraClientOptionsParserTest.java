@@ -0,0 +1,26 @@
+package io.vertx.ext.cassandra.impl.options;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class CassandraClientOptionsParserTest {
+
+    private JsonObject getConfig(int warmUpConnections) {
+        return new JsonObject().put("warm_up", new JsonObject().put("connections", warmUpConnections))
+                .put("pooling", new JsonObject().put("local", new JsonObject().put("core_connections", 2)));
+    }
+
+    @Test
+    public void warmUpConnections() {
+        assertEquals(2, new CassandraClientOptionsParser(this.getConfig(2)).warmUpConnections());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void warmUpConnectionsAboveCore() {
+        new CassandraClientOptionsParser(this.getConfig(3));
+    }
+
+}
@@ -0,0 +1,168 @@
+package io.vertx.ext.cassandra.impl.options;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.datastax.driver.core.Configuration;
+import com.datastax.driver.core.HostDistance;
+import com.datastax.driver.core.PoolingOptions;
+import com.datastax.driver.core.ProtocolOptions;
+import com.datastax.driver.core.QueryOptions;
+import com.datastax.driver.core.SimpleStatement;
+import com.datastax.driver.core.SocketOptions;
+import com.datastax.driver.core.policies.DCAwareRoundRobinPolicy;
+import com.datastax.driver.core.policies.LatencyAwarePolicy;
+import com.datastax.driver.core.policies.LoadBalancingPolicy;
+import com.datastax.driver.core.policies.SpeculativeExecutionPolicy.SpeculativeExecutionPlan;
+import com.datastax.driver.core.policies.TokenAwarePolicy;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.impl.SpeculativeExecutionTracker;
+
+public class CassandraDriverOptionsParserTest {
+
+    private JsonObject getConfig() {
+        return new JsonObject().put("contact_points", new JsonArray().add("127.0.0.1")).put("keyspace", "test");
+    }
+
+    private Configuration parse(JsonObject config) {
+        return new CassandraDriverOptionsParser(config).configuration().getConfiguration();
+    }
+
+    @Test
+    public void keyspace() {
+        assertEquals("test", new CassandraDriverOptionsParser(this.getConfig()).keyspace());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void noContactPoints() {
+        new CassandraDriverOptionsParser(new JsonObject());
+    }
+
+    @Test
+    public void pooling() {
+        JsonObject config = this.getConfig().put("pooling", new JsonObject()
+                .put("local", new JsonObject().put("core_connections", 4).put("max_connections", 8)
+                        .put("max_requests_per_connection", 120))
+                .put("remote", new JsonObject().put("core_connections", 1).put("max_connections", 1))
+                .put("heartbeat_interval", 15).put("pool_timeout", 250));
+
+        PoolingOptions pooling = this.parse(config).getPoolingOptions();
+        assertEquals(4, pooling.getCoreConnectionsPerHost(HostDistance.LOCAL));
+        assertEquals(8, pooling.getMaxConnectionsPerHost(HostDistance.LOCAL));
+        assertEquals(120, pooling.getMaxSimultaneousRequestsPerConnectionThreshold(HostDistance.LOCAL));
+        assertEquals(1, pooling.getCoreConnectionsPerHost(HostDistance.REMOTE));
+        assertEquals(1, pooling.getMaxConnectionsPerHost(HostDistance.REMOTE));
+        assertEquals(15, pooling.getHeartbeatIntervalSeconds());
+        assertEquals(250, pooling.getPoolTimeoutMillis());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void poolingCoreAboveMax() {
+        this.parse(this.getConfig().put("pooling",
+                new JsonObject().put("local", new JsonObject().put("core_connections", 4).put("max_connections", 2))));
+    }
+
+    @Test
+    public void socket() {
+        JsonObject config = this.getConfig().put("socket", new JsonObject().put("tcp_no_delay", true)
+                .put("keep_alive", false).put("read_timeout", 5000).put("receive_buffer_size", 65536)
+                .put("send_buffer_size", 32768));
+
+        SocketOptions socket = this.parse(config).getSocketOptions();
+        assertTrue(socket.getTcpNoDelay());
+        assertFalse(socket.getKeepAlive());
+        assertEquals(5000, socket.getReadTimeoutMillis());
+        assertEquals(65536, (int) socket.getReceiveBufferSize());
+        assertEquals(32768, (int) socket.getSendBufferSize());
+    }
+
+    @Test
+    public void tokenAwareLoadBalancing() {
+        JsonObject config = this.getConfig().put("load_balancing",
+                new JsonObject().put("local_dc", "dc1").put("used_hosts_per_remote_dc", 1));
+
+        LoadBalancingPolicy policy = this.parse(config).getPolicies().getLoadBalancingPolicy();
+        assertTrue(policy instanceof TokenAwarePolicy);
+        assertTrue(((TokenAwarePolicy) policy).getChildPolicy() instanceof DCAwareRoundRobinPolicy);
+    }
+
+    @Test
+    public void latencyAwareLoadBalancing() {
+        JsonObject config = this.getConfig().put("load_balancing", new JsonObject().put("token_aware", false)
+                .put("latency_aware", new JsonObject().put("exclusion_threshold", 3.0).put("min_measurements", 20)));
+
+        LoadBalancingPolicy policy = this.parse(config).getPolicies().getLoadBalancingPolicy();
+        assertTrue(policy instanceof LatencyAwarePolicy);
+        assertTrue(((LatencyAwarePolicy) policy).getChildPolicy() instanceof DCAwareRoundRobinPolicy);
+    }
+
+    @Test
+    public void constantSpeculativeExecution() {
+        JsonObject config = this.getConfig().put("speculative_execution",
+                new JsonObject().put("type", "constant").put("delay", 50).put("max_executions", 2));
+
+        CassandraDriverOptionsParser parser = new CassandraDriverOptionsParser(config);
+        SpeculativeExecutionTracker tracker = parser.speculativeExecutions();
+        assertTrue(parser.configuration().getConfiguration().getPolicies().getSpeculativeExecutionPolicy() == tracker);
+
+        SpeculativeExecutionPlan plan = tracker.newPlan("test", new SimpleStatement("select * from dummy"));
+        assertEquals(50, plan.nextExecution(null));
+        assertEquals(0, tracker.fired());
+        assertEquals(50, plan.nextExecution(null));
+        assertEquals(-1, plan.nextExecution(null));
+        assertEquals(2, tracker.fired());
+    }
+
+    @Test
+    public void speculativeExecutionOptOut() {
+        JsonObject config = this.getConfig().put("speculative_execution",
+                new JsonObject().put("type", "constant").put("delay", 50).put("max_executions", 2));
+
+        SpeculativeExecutionTracker tracker = new CassandraDriverOptionsParser(config).speculativeExecutions();
+        SimpleStatement statement = new SimpleStatement("select * from dummy");
+        statement.setIdempotent(true);
+        tracker.exclude(statement);
+
+        SpeculativeExecutionPlan plan = tracker.newPlan("test", statement);
+        assertEquals(-1, plan.nextExecution(null));
+        assertEquals(0, tracker.fired());
+        // The opt out does not touch idempotence, which retries depend on
+        assertTrue(statement.isIdempotent());
+
+        // and only applies to the request it was made for
+        assertEquals(50, tracker.newPlan("test", statement).nextExecution(null));
+    }
+
+    @Test
+    public void percentileSpeculativeExecution() {
+        JsonObject config = this.getConfig().put("speculative_execution",
+                new JsonObject().put("type", "percentile").put("percentile", 99.0));
+
+        CassandraDriverOptionsParser parser = new CassandraDriverOptionsParser(config);
+        assertTrue(parser.speculativeExecutions() != null);
+        assertTrue(parser.percentileTracker() != null);
+    }
+
+    @Test
+    public void compression() {
+        Configuration configuration = this.parse(this.getConfig().put("compression", "lz4"));
+        assertEquals(ProtocolOptions.Compression.LZ4, configuration.getProtocolOptions().getCompression());
+    }
+
+    @Test
+    public void queryOptions() {
+        JsonObject config = this.getConfig().put("query_options",
+                new JsonObject().put("consistency_level", "LOCAL_QUORUM").put("fetch_size", 500));
+
+        QueryOptions options = this.parse(config).getQueryOptions();
+        assertEquals(com.datastax.driver.core.ConsistencyLevel.LOCAL_QUORUM, options.getConsistencyLevel());
+        assertEquals(500, options.getFetchSize());
+        assertEquals(QueryOptions.DEFAULT_SERIAL_CONSISTENCY_LEVEL, options.getSerialConsistencyLevel());
+    }
+
+}
@@ -0,0 +1,286 @@
+package io.vertx.ext.cassandra.codegen;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+
+import io.vertx.ext.cassandra.Column;
+import io.vertx.ext.cassandra.RowMapped;
+
+@SupportedAnnotationTypes("io.vertx.ext.cassandra.RowMapped")
+public class RowMapperProcessor extends AbstractProcessor {
+
+    private static final String SUFFIX = "RowMapper";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getElementsAnnotatedWith(RowMapped.class)) {
+            if (element.getKind() != ElementKind.CLASS) {
+                this.error(element, "@RowMapped can only be used on classes");
+                continue;
+            }
+            try {
+                this.generate((TypeElement) element);
+            } catch (IllegalArgumentException e) {
+                this.error(element, e.getMessage());
+            } catch (IOException e) {
+                this.error(element, "Could not write the row mapper: " + e.getMessage());
+            }
+        }
+        return true;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        if (!this.hasPublicNoArgConstructor(type)) {
+            throw new IllegalArgumentException(type + " needs a public no argument constructor");
+        }
+
+        List<Property> properties = new ArrayList<>();
+        for (ExecutableElement setter : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Column column = setter.getAnnotation(Column.class);
+            if (column != null) {
+                properties.add(this.toProperty(type, setter, column));
+            }
+        }
+        if (properties.isEmpty()) {
+            throw new IllegalArgumentException(type + " has no setter annotated with @Column");
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String typeName = type.getQualifiedName().toString();
+        String mapperName = type.getSimpleName() + SUFFIX;
+
+        JavaFileObject file = processingEnv.getFiler()
+                .createSourceFile(packageName.isEmpty() ? mapperName : packageName + "." + mapperName, type);
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+            out.println("// Generated by " + RowMapperProcessor.class.getName() + " from " + typeName);
+            out.println("public class " + mapperName + " implements io.vertx.ext.cassandra.RowMapper<" + typeName
+                    + "> {");
+            out.println();
+            out.println("    public static final " + mapperName + " INSTANCE = new " + mapperName + "();");
+            out.println();
+            out.println("    private static final java.util.List<String> COLUMNS = java.util.Collections"
+                    + ".unmodifiableList(java.util.Arrays.asList(");
+            for (int i = 0; i < properties.size(); i++) {
+                String separator = i < properties.size() - 1 ? "," : "";
+                out.println("            \"" + properties.get(i).column + "\"" + separator);
+            }
+            out.println("    ));");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<String> columns() {");
+            out.println("        return COLUMNS;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + typeName + " map(com.datastax.driver.core.Row row, int[] indexes) {");
+            out.println("        " + typeName + " result = new " + typeName + "();");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String index = "indexes[" + i + "]";
+                String condition = index + " >= 0";
+                if (property.nullable) {
+                    condition += " && !row.isNull(" + index + ")";
+                }
+                out.println("        if (" + condition + ") {");
+                out.println("            result." + property.setter + "(" + String.format(property.read, index) + ");");
+                out.println("        }");
+            }
+            out.println("        return result;");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    public java.util.List<Object> bind(" + typeName + " value) {");
+            out.println("        Object[] result = new Object[" + properties.size() + "];");
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+                String value = String.format(property.write, "value." + property.getter + "()");
+                out.println("        result[" + i + "] = " + value + ";");
+            }
+            out.println("        return java.util.Arrays.asList(result);");
+            out.println("    }");
+            out.println();
+            out.println("}");
+        }
+    }
+
+    private Property toProperty(TypeElement type, ExecutableElement setter, Column column) {
+        String name = setter.getSimpleName().toString();
+        if (!name.startsWith("set") || name.length() == 3 || setter.getParameters().size() != 1) {
+            throw new IllegalArgumentException("@Column must be on a setter with one parameter: " + name);
+        }
+
+        String capitalized = name.substring(3);
+        TypeMirror propertyType = setter.getParameters().get(0).asType();
+        ExecutableElement getter = this.findGetter(type, capitalized, propertyType);
+        if (getter == null) {
+            throw new IllegalArgumentException("No getter matching " + name + " in " + type);
+        }
+
+        Property result = new Property();
+        result.setter = name;
+        result.getter = getter.getSimpleName().toString();
+        result.column = column.value().isEmpty() ? capitalized.toLowerCase() : column.value();
+        this.resolveAccessors(result, propertyType, name);
+        return result;
+    }
+
+    private ExecutableElement findGetter(TypeElement type, String capitalized, TypeMirror propertyType) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String name = method.getSimpleName().toString();
+            if ((name.equals("get" + capitalized) || name.equals("is" + capitalized)) && method.getParameters()
+                    .isEmpty() && processingEnv.getTypeUtils().isSameType(method.getReturnType(), propertyType)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    // read is a format taking the column index expression, write one taking
+    // the getter call
+    private void resolveAccessors(Property property, TypeMirror type, String setter) {
+        property.write = "%s";
+        switch (type.getKind()) {
+        case INT:
+            property.read = "row.getInt(%s)";
+            return;
+        case LONG:
+            property.read = "row.getLong(%s)";
+            return;
+        case FLOAT:
+            property.read = "row.getFloat(%s)";
+            return;
+        case DOUBLE:
+            property.read = "row.getDouble(%s)";
+            return;
+        case BOOLEAN:
+            property.read = "row.getBool(%s)";
+            return;
+        case DECLARED:
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported type " + type + " for " + setter);
+        }
+
+        DeclaredType declared = (DeclaredType) type;
+        String name = ((TypeElement) declared.asElement()).getQualifiedName().toString();
+        property.nullable = true;
+        switch (name) {
+        case "java.lang.Integer":
+            property.read = "row.getInt(%s)";
+            return;
+        case "java.lang.Long":
+            property.read = "row.getLong(%s)";
+            return;
+        case "java.lang.Float":
+            property.read = "row.getFloat(%s)";
+            return;
+        case "java.lang.Double":
+            property.read = "row.getDouble(%s)";
+            return;
+        case "java.lang.Boolean":
+            property.read = "row.getBool(%s)";
+            return;
+        case "java.lang.String":
+            property.read = "row.getString(%s)";
+            return;
+        case "java.util.UUID":
+            property.read = "row.getUUID(%s)";
+            return;
+        case "java.util.Date":
+            property.read = "row.getDate(%s)";
+            return;
+        case "java.math.BigDecimal":
+            property.read = "row.getDecimal(%s)";
+            return;
+        case "java.math.BigInteger":
+            property.read = "row.getVarint(%s)";
+            return;
+        case "java.net.InetAddress":
+            property.read = "row.getInet(%s)";
+            return;
+        case "java.nio.ByteBuffer":
+            property.read = "row.getBytes(%s)";
+            return;
+        case "io.vertx.core.buffer.Buffer":
+            property.read = "io.vertx.core.buffer.Buffer.buffer("
+                    + "io.netty.buffer.Unpooled.wrappedBuffer(row.getBytes(%s)))";
+            // Generated code only depends on the client at runtime, so the
+            // conversion is inlined
+            property.write = "%1$s == null ? null : %1$s.getByteBuf().nioBuffer()";
+            return;
+        case "java.util.List":
+            property.read = "row.getList(%s, " + this.typeArgument(declared, 0, setter) + ".class)";
+            return;
+        case "java.util.Set":
+            property.read = "row.getSet(%s, " + this.typeArgument(declared, 0, setter) + ".class)";
+            return;
+        case "java.util.Map":
+            property.read = "row.getMap(%s, " + this.typeArgument(declared, 0, setter) + ".class, "
+                    + this.typeArgument(declared, 1, setter) + ".class)";
+            return;
+        default:
+            throw new IllegalArgumentException("Unsupported type " + type + " for " + setter);
+        }
+    }
+
+    private String typeArgument(DeclaredType type, int index, String setter) {
+        if (type.getTypeArguments().size() <= index
+                || type.getTypeArguments().get(index).getKind() != TypeKind.DECLARED) {
+            throw new IllegalArgumentException("Collections must declare their element types: " + setter);
+        }
+        TypeMirror argument = processingEnv.getTypeUtils().erasure(type.getTypeArguments().get(index));
+        return ((TypeElement) ((DeclaredType) argument).asElement()).getQualifiedName().toString();
+    }
+
+    private boolean hasPublicNoArgConstructor(TypeElement type) {
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static final class Property {
+
+        private String setter;
+        private String getter;
+        private String column;
+        private String read;
+        private String write;
+        private boolean nullable;
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.vertx.ext.cassandra.codegen;
+
+import java.util.Set;
+import java.util.UUID;
+
+import io.vertx.codegen.annotations.DataObject;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.Column;
+import io.vertx.ext.cassandra.RowMapped;
+
+@DataObject
+@RowMapped
+public class Person {
+
+    private UUID id;
+    private String name;
+    private Integer age;
+    private double score;
+    private Set<String> tags;
+    private Buffer avatar;
+
+    public Person() {
+    }
+
+    public Person(JsonObject json) {
+        this.id = json.containsKey("id") ? UUID.fromString(json.getString("id")) : null;
+        this.name = json.getString("name");
+        this.age = json.getInteger("age");
+        this.score = json.getDouble("score", 0d);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Column
+    public Person setId(UUID id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Column("full_name")
+    public Person setName(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    @Column
+    public Person setAge(Integer age) {
+        this.age = age;
+        return this;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    @Column
+    public Person setScore(double score) {
+        this.score = score;
+        return this;
+    }
+
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    @Column
+    public Person setTags(Set<String> tags) {
+        this.tags = tags;
+        return this;
+    }
+
+    public Buffer getAvatar() {
+        return avatar;
+    }
+
+    @Column
+    public Person setAvatar(Buffer avatar) {
+        this.avatar = avatar;
+        return this;
+    }
+
+}
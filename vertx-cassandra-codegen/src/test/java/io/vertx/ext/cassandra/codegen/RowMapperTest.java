@@ -0,0 +1,127 @@
+package io.vertx.ext.cassandra.codegen;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.cassandra.CassandraClient;
+import io.vertx.test.core.VertxTestBase;
+
+public class RowMapperTest extends VertxTestBase {
+
+    private static final String CREATE_TABLE = "create table person (id uuid primary key, full_name text, age int, "
+            + "score double, tags set<text>, avatar blob)";
+
+    private CassandraClient cassandra;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        JsonObject config = new JsonObject().put("contact_points", new JsonArray().add("127.0.0.1"));
+        cassandra = CassandraClient.createNonShared(vertx, config.copy().put("keyspace", "system"));
+        CountDownLatch latch = new CountDownLatch(1);
+        cassandra.execute("drop keyspace if exists vertx_cassandra_codegen", this.onSuccess(r -> {
+            cassandra.execute("create keyspace vertx_cassandra_codegen with replication = "
+                    + "{ 'class': 'SimpleStrategy', 'replication_factor': 1 }", this.onSuccess(r2 -> latch.countDown()));
+        }));
+        this.awaitLatch(latch);
+        cassandra.close();
+
+        cassandra = CassandraClient.createNonShared(vertx, config.put("keyspace", "vertx_cassandra_codegen"));
+        CountDownLatch table = new CountDownLatch(1);
+        cassandra.execute(CREATE_TABLE, this.onSuccess(r -> table.countDown()));
+        this.awaitLatch(table);
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        cassandra.close();
+        super.tearDown();
+    }
+
+    private Person person() {
+        return new Person().setId(UUID.randomUUID()).setName("Ada").setAge(36).setScore(9.5)
+                .setTags(new HashSet<>(Arrays.asList("math", "engines"))).setAvatar(Buffer.buffer("png"));
+    }
+
+    @Test
+    public void columns() {
+        this.assertEquals(Arrays.asList("id", "full_name", "age", "score", "tags", "avatar"),
+                PersonRowMapper.INSTANCE.columns());
+        this.assertEquals("insert into person (id, full_name, age, score, tags, avatar) values (?, ?, ?, ?, ?, ?)",
+                PersonRowMapper.INSTANCE.insertInto("person"));
+    }
+
+    @Test
+    public void bind() {
+        Person person = this.person();
+        List<Object> values = PersonRowMapper.INSTANCE.bind(person);
+        this.assertEquals(person.getId(), values.get(0));
+        this.assertEquals("Ada", values.get(1));
+        this.assertEquals(36, values.get(2));
+        this.assertEquals(9.5, values.get(3));
+        this.assertEquals(person.getTags(), values.get(4));
+        this.assertEquals(ByteBuffer.wrap("png".getBytes()), values.get(5));
+    }
+
+    @Test
+    public void roundTrip() {
+        Person person = this.person();
+        PersonRowMapper mapper = PersonRowMapper.INSTANCE;
+        cassandra.execute(mapper.insertInto("person"), mapper.bind(person), this.onSuccess(r -> {
+            cassandra.query("select * from person where id = ?", Arrays.asList(person.getId()), mapper,
+                    this.onSuccess(people -> {
+                        this.assertEquals(1, people.size());
+                        Person read = people.get(0);
+                        this.assertEquals(person.getId(), read.getId());
+                        this.assertEquals("Ada", read.getName());
+                        this.assertEquals(36, (int) read.getAge());
+                        this.assertEquals(9.5, read.getScore(), 0);
+                        this.assertEquals(person.getTags(), read.getTags());
+                        this.assertEquals("png", read.getAvatar().toString());
+                        this.testComplete();
+                    }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void missingColumnsAndNulls() {
+        Person person = new Person().setId(UUID.randomUUID()).setName("Grace");
+        PersonRowMapper mapper = PersonRowMapper.INSTANCE;
+        cassandra.execute(mapper.insertInto("person"), mapper.bind(person), this.onSuccess(r -> {
+            cassandra.query("select id, age from person where id = ?", Arrays.asList(person.getId()), mapper,
+                    this.onSuccess(people -> {
+                        Person read = people.get(0);
+                        this.assertEquals(person.getId(), read.getId());
+                        this.assertNull(read.getName());
+                        this.assertNull(read.getAge());
+                        this.testComplete();
+                    }));
+        }));
+        this.await();
+    }
+
+    @Test
+    public void stream() {
+        PersonRowMapper mapper = PersonRowMapper.INSTANCE;
+        cassandra.execute(mapper.insertInto("person"), mapper.bind(this.person()), this.onSuccess(r -> {
+            cassandra.queryStream("select * from person", Collections.emptyList(), mapper, this.onSuccess(stream -> {
+                stream.handler(person -> this.assertEquals("Ada", person.getName()));
+                stream.endHandler(v -> this.testComplete());
+            }));
+        }));
+        this.await();
+    }
+
+}